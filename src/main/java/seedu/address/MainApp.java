@@ -38,7 +38,12 @@ import seedu.address.model.ScheduleModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryScheduleStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JournalScheduleStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
 import seedu.address.storage.ScheduleStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -78,8 +83,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleStorage scheduleStorage = new XmlScheduleStorage(userPrefs.getScheduleFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
+        ScheduleStorage scheduleStorage = initScheduleStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, scheduleStorage, userPrefsStorage);
 
         initLogging(config);
@@ -94,6 +99,39 @@ public class MainApp extends Application {
 
         initEventsCenter();
     }
+
+    /**
+     * Returns the storage of the address book at {@code userPrefs}'s file path in {@code config}'s storage format.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, UserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (config.getStorageFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath);
+        default:
+            return new XmlAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the storage of the schedule at {@code userPrefs}'s file path in {@code config}'s storage format.
+     */
+    private ScheduleStorage initScheduleStorage(Config config, UserPrefs userPrefs) {
+        Path filePath = userPrefs.getScheduleFilePath();
+        switch (config.getStorageFormat()) {
+        case JOURNAL:
+            return new JournalScheduleStorage(filePath);
+        case BINARY:
+        case MAPPED:
+            return new BinaryScheduleStorage(filePath);
+        default:
+            return new XmlScheduleStorage(filePath);
+        }
+    }
     /**
      * Returns a {@code ScheduleModelManager} with the data from [@code storage}'s scheduel and {@code userPrefs}. <br>
      * The data fromthe sample schedule will be used instead if {@code storage}'s schedule is not found,
@@ -222,7 +260,9 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().setAsync(config.isAsyncEventDispatch());
+        // exiting closes the windows, which is only done on the JavaFX application thread
+        EventsCenter.getInstance().registerUiHandler(this);
     }
 
     @Override
@@ -276,6 +316,9 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        EventsCenter.getInstance().flush();
+        logger.info("Background event dispatch: " + EventsCenter.getInstance().getBackgroundDispatcher());
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -12,10 +12,30 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The formats in which the address book and the schedule can be saved.
+     */
+    public enum StorageFormat {
+        /** An xml file, rewritten on every save. */
+        XML,
+        /** An xml snapshot and a journal of the changes since, which is compacted into the snapshot as it grows. */
+        JOURNAL,
+        /** A binary file, rewritten on every save, which also reads an xml file in its place. */
+        BINARY,
+        /**
+         * The binary format, with the address book mapped into memory and each person read only when it is asked
+         * for, and a journal of the changes to the address book since, which is compacted into the address book
+         * file when it is next read. The schedule is read in full, as with {@code BINARY}.
+         */
+        MAPPED
+    }
+
     // Config values customizable through config file
     private String appTitle = "Patient Book";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean asyncEventDispatch = false;
+    private StorageFormat storageFormat = StorageFormat.XML;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +61,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAsyncEventDispatch() {
+        return asyncEventDispatch;
+    }
+
+    public void setAsyncEventDispatch(boolean asyncEventDispatch) {
+        this.asyncEventDispatch = asyncEventDispatch;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +90,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && asyncEventDispatch == o.asyncEventDispatch
+                && storageFormat == o.storageFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, asyncEventDispatch, storageFormat);
     }
 
     @Override
@@ -68,6 +106,8 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nAsynchronous event dispatch : " + asyncEventDispatch);
+        sb.append("\nStorage format : " + storageFormat);
         return sb.toString();
     }
 
@@ -1,21 +1,56 @@
 package seedu.address.commons.core;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.ModelChangedEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * By default every event is handled on the thread which posts it, before {@link #post(BaseEvent)} returns, except
+ * that handlers registered with {@link #registerUiHandler(Object)} only ever run on the JavaFX application thread:
+ * events posted on another thread, such as by a command running in the background, are handled by them later.
+ * When dispatching asynchronously, {@link ModelChangedEvent}s are instead handled after they are posted:
+ * handlers registered with {@link #registerHandler(Object)} on a single background thread, in the order the events
+ * were posted, and handlers registered with {@link #registerUiHandler(Object)} on the JavaFX application thread.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+
+    // events waiting beyond this make the posting thread wait, rather than events being reordered or dropped
+    private static final int BACKGROUND_QUEUE_CAPACITY = 1024;
+    private static final long BACKGROUND_KEEP_ALIVE_SECONDS = 60;
+
     private static EventsCenter instance;
     private final EventBus eventBus;
+    // the handlers which may be run on any thread, for events posted off the JavaFX application thread
+    private final EventBus handlerEventBus;
+
+    private final ThreadPoolExecutor backgroundExecutor;
+    private final MeteredExecutor backgroundDispatcher;
+    private final MeteredExecutor uiDispatcher;
+    private final EventBus backgroundEventBus;
+    private final EventBus uiEventBus;
+    private volatile boolean isAsync;
 
     private EventsCenter() {
         eventBus = new EventBus();
+        handlerEventBus = new EventBus();
+        backgroundExecutor = createBackgroundExecutor();
+        backgroundDispatcher = new MeteredExecutor(backgroundExecutor);
+        uiDispatcher = new MeteredExecutor(Platform::runLater);
+        backgroundEventBus = new AsyncEventBus(backgroundDispatcher);
+        uiEventBus = new AsyncEventBus(uiDispatcher);
     }
 
     public static EventsCenter getInstance() {
@@ -29,8 +64,29 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Registers a handler which may be run on any thread.
+     */
     public void registerHandler(Object handler) {
         eventBus.register(handler);
+        handlerEventBus.register(handler);
+        backgroundEventBus.register(handler);
+    }
+
+    /**
+     * Registers a handler which must be run on the JavaFX application thread.
+     */
+    public void registerUiHandler(Object handler) {
+        eventBus.register(handler);
+        uiEventBus.register(handler);
+    }
+
+    /**
+     * Sets whether {@link ModelChangedEvent}s are handled after they are posted, instead of before
+     * {@link #post(BaseEvent)} returns.
+     */
+    public void setAsync(boolean isAsync) {
+        this.isAsync = isAsync;
     }
 
     /**
@@ -38,8 +94,69 @@ public class EventsCenter {
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
         logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        if (isAsync && event instanceof ModelChangedEvent) {
+            backgroundEventBus.post(event);
+            uiEventBus.post(event);
+        } else if (Platform.isFxApplicationThread()) {
+            eventBus.post(event);
+        } else {
+            handlerEventBus.post(event);
+            uiEventBus.post(event);
+        }
         return this;
     }
 
+    /**
+     * Waits until the background handlers of every event posted so far have run.
+     */
+    public void flush() {
+        try {
+            // the background thread runs handlers in order, so every one before this no-op has run after it
+            backgroundExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the queue depth and dispatch latency of the handlers run on the background thread.
+     */
+    public MeteredExecutor getBackgroundDispatcher() {
+        return backgroundDispatcher;
+    }
+
+    /**
+     * Returns the queue depth and dispatch latency of the handlers run on the JavaFX application thread.
+     */
+    public MeteredExecutor getUiDispatcher() {
+        return uiDispatcher;
+    }
+
+    private static ThreadPoolExecutor createBackgroundExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, BACKGROUND_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(BACKGROUND_QUEUE_CAPACITY), EventsCenter::newDispatcherThread,
+                EventsCenter::waitToDispatch);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Thread newDispatcherThread(Runnable runnable) {
+        Thread dispatcher = new Thread(runnable, "event-dispatcher");
+        dispatcher.setDaemon(true);
+        return dispatcher;
+    }
+
+    /**
+     * Waits for room in the queue of the full {@code executor} to add {@code task} to.
+     */
+    private static void waitToDispatch(Runnable task, ThreadPoolExecutor executor) {
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to dispatch an event", e);
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@code Executor} which hands tasks on to another one, keeping count of the tasks waiting to run
+ * and of how long each of them waited.
+ */
+public class MeteredExecutor implements Executor {
+
+    private final Executor delegate;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder dispatchCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public MeteredExecutor(Executor delegate) {
+        this.delegate = requireNonNull(delegate);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        long submitted = System.nanoTime();
+        queueDepth.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queueDepth.decrementAndGet();
+                recordLatency(System.nanoTime() - submitted);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of tasks which have been handed on but have not started running.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks which have started running.
+     */
+    public long getDispatchCount() {
+        return dispatchCount.sum();
+    }
+
+    /**
+     * Returns how long, on average, a task waited between being handed on and starting to run.
+     */
+    public long getAverageLatencyNanos() {
+        long count = dispatchCount.sum();
+        return count == 0 ? 0 : totalLatencyNanos.sum() / count;
+    }
+
+    /**
+     * Returns the longest time a task waited between being handed on and starting to run.
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        dispatchCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    @Override
+    public String toString() {
+        return "queue depth " + getQueueDepth()
+                + ", dispatched " + getDispatchCount()
+                + ", average latency " + TimeUnit.NANOSECONDS.toMicros(getAverageLatencyNanos()) + "us"
+                + ", max latency " + TimeUnit.NANOSECONDS.toMicros(getMaxLatencyNanos()) + "us";
+    }
+}
@@ -1,19 +1,44 @@
 package seedu.address.commons.events.model;
 
-import seedu.address.commons.events.BaseEvent;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
-/** Indicates the AddressBook in the addressBookModel has changed. */
-public class AddressBookChangedEvent extends BaseEvent {
+/** Indicates the AddressBook in the addressBookModel has changed, with a snapshot of the new AddressBook. */
+public class AddressBookChangedEvent extends ModelChangedEvent {
 
     public final ReadOnlyAddressBook data;
+    /** The person which changed, as it is after the change, or null if the whole address book was reset. */
+    public final Person person;
+    /** The ID of the person which changed, or null if the whole address book was reset. */
+    public final PersonId personId;
 
+    /**
+     * Indicates that the whole address book was reset to {@code data}.
+     */
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        super(Change.RESET);
+        this.data = data;
+        this.person = null;
+        this.personId = null;
+    }
+
+    /**
+     * Indicates that {@code person} was changed as {@code change} says, leaving {@code data}.
+     */
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, Change change, Person person) {
+        super(change);
+        requireAllNonNull(data, person);
         this.data = data;
+        this.person = person;
+        this.personId = person.getId();
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getPersonList().size();
+        String description = "number of persons " + data.getPersonList().size();
+        return personId == null ? description : description + ", " + change + " " + personId;
     }
 }
@@ -0,0 +1,33 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that data in a model has changed, and how.
+ * When the {@link seedu.address.commons.core.EventsCenter} dispatches asynchronously, these events are handled after
+ * they are posted, so the data they carry must be a snapshot which the model will not change.
+ */
+public abstract class ModelChangedEvent extends BaseEvent {
+
+    /**
+     * The ways in which the data of a model can change.
+     */
+    public enum Change {
+        /** An element was added. */
+        ADDED,
+        /** An element was replaced by an edited one, which has the ID given. */
+        UPDATED,
+        /** An element was removed, or marked as deleted. */
+        REMOVED,
+        /** All of the data was replaced. */
+        RESET
+    }
+
+    public final Change change;
+
+    protected ModelChangedEvent(Change change) {
+        this.change = requireNonNull(change);
+    }
+}
@@ -1,19 +1,59 @@
 package seedu.address.commons.events.model;
 
-import seedu.address.commons.events.BaseEvent;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
 
-/** Indicates the Schedule in the ScheduleModel has changed. */
-public class ScheduleChangedEvent extends BaseEvent {
+/** Indicates the Schedule in the ScheduleModel has changed, with a snapshot of the new Schedule. */
+public class ScheduleChangedEvent extends ModelChangedEvent {
 
     public final ReadOnlySchedule data;
+    /**
+     * The events which changed, as they are after the change or as they were when removed, or an empty list if the
+     * whole schedule was reset.
+     */
+    public final List<ScheduleEvent> events;
+    /** The IDs of the events which changed, or an empty list if the whole schedule was reset. */
+    public final List<EventId> eventIds;
 
+    /**
+     * Indicates that the whole schedule was reset to {@code data}.
+     */
     public ScheduleChangedEvent(ReadOnlySchedule data) {
+        super(Change.RESET);
+        this.data = data;
+        this.events = Collections.emptyList();
+        this.eventIds = Collections.emptyList();
+    }
+
+    /**
+     * Indicates that {@code event} was changed as {@code change} says, leaving {@code data}.
+     */
+    public ScheduleChangedEvent(ReadOnlySchedule data, Change change, ScheduleEvent event) {
+        this(data, change, Collections.singletonList(requireNonNull(event)));
+    }
+
+    /**
+     * Indicates that {@code events} were all changed as {@code change} says, leaving {@code data}.
+     */
+    public ScheduleChangedEvent(ReadOnlySchedule data, Change change, List<ScheduleEvent> events) {
+        super(change);
+        requireAllNonNull(data, events);
         this.data = data;
+        this.events = Collections.unmodifiableList(events);
+        this.eventIds = events.stream().map(ScheduleEvent::getId).collect(Collectors.toList());
     }
 
     @Override
     public String toString() {
-        return "number of events " + data.getAllEventList().size();
+        String description = "number of events " + data.getAllEventList().size();
+        return change == Change.RESET ? description : description + ", " + change + " " + eventIds;
     }
 }
@@ -2,9 +2,15 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -26,6 +32,24 @@ public class CollectionUtil {
         items.forEach(Objects::requireNonNull);
     }
 
+    /**
+     * Returns the keys, as given by {@code keyOf}, which are shared by more than one element of {@code items}.
+     * Each duplicate key is returned once, in the order its first duplicate occurs, after a single pass over
+     * {@code items}.
+     */
+    public static <T, K> List<K> findDuplicates(Collection<T> items, Function<? super T, K> keyOf) {
+        requireAllNonNull(items, keyOf);
+        Set<K> seenKeys = new HashSet<>();
+        Set<K> duplicateKeys = new LinkedHashSet<>();
+        for (T item : items) {
+            K key = keyOf.apply(item);
+            if (!seenKeys.add(key)) {
+                duplicateKeys.add(key);
+            }
+        }
+        return new ArrayList<>(duplicateKeys);
+    }
+
     /**
      * Returns true if {@code items} contain any elements that are non-null.
      */
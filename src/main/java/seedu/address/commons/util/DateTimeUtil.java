@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+
+/**
+ * Formats and parses times in the {@code dd/MM/yyyy HH:mm} format of the storage files, in the default time zone
+ * and the ISO calendar.
+ * Nothing here is shared mutable state, so dates may be formatted and parsed on many threads at once, and the fixed
+ * width of the format is written and read directly instead of going through a general pattern.
+ */
+public class DateTimeUtil {
+
+    public static final String DATE_TIME_PATTERN = "dd/MM/yyyy HH:mm";
+
+    // the default time zone when the application started, as SimpleDateFormat did
+    public static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+    private static final ZoneRules RULES = ZONE.getRules();
+
+    private static final int DATE_TIME_LENGTH = DATE_TIME_PATTERN.length();
+    private static final int MAX_YEAR = 9999;
+
+    /**
+     * Returns {@code millis}, in milliseconds since the epoch, as a time in the {@code dd/MM/yyyy HH:mm} format.
+     */
+    public static String formatDateTime(long millis) {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L), 0,
+                RULES.getOffset(Instant.ofEpochMilli(millis)));
+        int year = dateTime.getYear();
+        if (year < 0 || year > MAX_YEAR) {
+            return DATE_TIME_FORMAT.format(dateTime);
+        }
+
+        char[] chars = new char[DATE_TIME_LENGTH];
+        writeDigits(chars, 0, dateTime.getDayOfMonth(), 2);
+        chars[2] = '/';
+        writeDigits(chars, 3, dateTime.getMonthValue(), 2);
+        chars[5] = '/';
+        writeDigits(chars, 6, year, 4);
+        chars[10] = ' ';
+        writeDigits(chars, 11, dateTime.getHour(), 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, dateTime.getMinute(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the time {@code text} in the {@code dd/MM/yyyy HH:mm} format, in milliseconds since the epoch.
+     * Unlike a lenient {@code SimpleDateFormat}, fields out of range, such as a 31st of February, are rejected.
+     * A time skipped by a daylight saving change is moved forward by the length of the change.
+     *
+     * @throws ParseException if {@code text} is not a valid time in that format.
+     */
+    public static long parseDateTime(String text) throws ParseException {
+        requireNonNull(text);
+        if (text.length() != DATE_TIME_LENGTH
+                || text.charAt(2) != '/' || text.charAt(5) != '/'
+                || text.charAt(10) != ' ' || text.charAt(13) != ':') {
+            throw unparseable(text);
+        }
+        int day = readDigits(text, 0, 2);
+        int month = readDigits(text, 3, 2);
+        int year = readDigits(text, 6, 4);
+        int hour = readDigits(text, 11, 2);
+        int minute = readDigits(text, 14, 2);
+        if (day < 0 || month < 0 || year < 0 || hour < 0 || minute < 0) {
+            throw unparseable(text);
+        }
+
+        LocalDateTime dateTime;
+        try {
+            dateTime = LocalDateTime.of(year, month, day, hour, minute);
+        } catch (DateTimeException e) {
+            throw unparseable(text);
+        }
+        return dateTime.toEpochSecond(RULES.getOffset(dateTime)) * 1000L;
+    }
+
+    /**
+     * Writes {@code value} as exactly {@code width} decimal digits into {@code chars}, starting at {@code offset}.
+     */
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Returns the number written as {@code width} decimal digits in {@code text}, starting at {@code offset},
+     * or -1 if any of those characters is not a digit.
+     */
+    private static int readDigits(String text, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static ParseException unparseable(String text) {
+        return new ParseException("Unparseable date: \"" + text + "\"", 0);
+    }
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
@@ -20,29 +22,27 @@ public class DrugCsvUtil {
     //filepath to drug dataset
     private static final String DATASET_PATH = "/storage/datasetForDrugs.csv";
 
-    private Reader reader;
-    private CSVReader csvReader;
-
-    private String keyword; //keyword to be searched for
-
-    public DrugCsvUtil(String keyword) throws IOException {
-        InputStream inputStream = MainApp.class
-                .getResourceAsStream(DATASET_PATH);
-        this.reader = new BufferedReader(new InputStreamReader(inputStream));
-        this.csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build();
-        this.keyword = keyword;
-    }
-
     /**
-     * Returns entries from the drug database one at a time, which match the given keyword.
+     * Returns every entry of the drug database, in the order they appear in the dataset.
      */
-    public String[] nextMatchingEntry() throws IOException {
-        String[] nextRecord;
-        while ((nextRecord = csvReader.readNext()) != null) {
-            if (nextRecord[1].toLowerCase().contains(keyword)) {
-                return nextRecord;
+    public static List<String[]> readAllEntries() throws IOException {
+        try (CSVReader csvReader = openDataset()) {
+            List<String[]> entries = new ArrayList<>();
+            String[] nextRecord;
+            while ((nextRecord = csvReader.readNext()) != null) {
+                entries.add(nextRecord);
             }
+            return entries;
         }
-        return null;
+    }
+
+    /**
+     * Opens the drug dataset, skipping its header.
+     */
+    private static CSVReader openDataset() {
+        InputStream inputStream = MainApp.class
+                .getResourceAsStream(DATASET_PATH);
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream));
+        return new CSVReaderBuilder(reader).withSkipLines(1).build();
     }
 }
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.List;
 
@@ -15,6 +17,14 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Writes a file, possibly throwing {@code E} besides {@code IOException}.
+     */
+    @FunctionalInterface
+    public interface WriteOperation<E extends Exception> {
+        void write(Path file) throws IOException, E;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -69,6 +79,41 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Runs {@code writeOperation} on a temporary file which then replaces {@code file}, so that {@code file}
+     * holds either its old or its new contents in full even if writing is interrupted.
+     */
+    public static <E extends Exception> void writeAtomically(Path file, WriteOperation<E> writeOperation)
+            throws IOException, E {
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                ".tmp");
+        try {
+            writeOperation.write(tempFile);
+            replaceFile(tempFile, file);
+        } finally {
+            deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} atomically where the file system allows it.
+     */
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // the temporary file is left behind, which does not affect the written file
+        }
+    }
+
     /**
      * Assumes file exists
      */
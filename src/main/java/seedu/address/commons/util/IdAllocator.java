@@ -0,0 +1,29 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out increasing ID numbers. Numbers may be allocated and reserved from many threads at once without locking.
+ */
+public class IdAllocator {
+
+    private final AtomicInteger nextNumber = new AtomicInteger();
+
+    /**
+     * Returns a number which has not been allocated or reserved before.
+     */
+    public int allocate() {
+        return nextNumber.getAndIncrement();
+    }
+
+    /**
+     * Makes sure that {@code number}, the number of an existing ID, is never allocated.
+     */
+    public void reserve(int number) {
+        int next = nextNumber.get();
+        // only ever raises the next number, and loaders mostly reserve numbers already below it
+        while (next <= number && !nextNumber.compareAndSet(next, number + 1)) {
+            next = nextNumber.get();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the repeated child elements of the root element of an xml file one at a time, so that only the element
+ * being read is held in memory rather than the whole file.
+ * Child elements with other names are skipped.
+ */
+public class XmlElementReader<T> implements AutoCloseable {
+
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private final Unmarshaller unmarshaller;
+    private final String elementName;
+    private final Class<T> elementClass;
+
+    /**
+     * Opens {@code file} and checks that its root element is named {@code rootName}.
+     *
+     * @throws JAXBException if the file is empty, is not well-formed or has a different root element.
+     */
+    XmlElementReader(Path file, String rootName, String elementName, Class<T> elementClass,
+                     Unmarshaller unmarshaller) throws IOException, JAXBException {
+        this.elementName = elementName;
+        this.elementClass = elementClass;
+        this.unmarshaller = unmarshaller;
+        input = Files.newInputStream(file);
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(input);
+            reader.nextTag();
+            if (!reader.getLocalName().equals(rootName)) {
+                throw new JAXBException("Expected root element " + rootName + " but found " + reader.getLocalName());
+            }
+            reader.next();
+        } catch (XMLStreamException | JAXBException e) {
+            input.close();
+            throw e instanceof JAXBException ? (JAXBException) e : new JAXBException(e);
+        }
+    }
+
+    /**
+     * Returns the next child element of the root element named as given, or null if there are no more.
+     *
+     * @throws JAXBException if the rest of the file is not well-formed or the element does not match
+     *                       {@code elementClass}.
+     */
+    public T next() throws JAXBException {
+        try {
+            while (true) {
+                switch (reader.getEventType()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (reader.getLocalName().equals(elementName)) {
+                        // leaves the reader on the token after the end of the element
+                        return unmarshaller.unmarshal(reader, elementClass).getValue();
+                    }
+                    skipElement();
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    // child elements are always read whole, so this ends the root element
+                case XMLStreamConstants.END_DOCUMENT:
+                    return null;
+                default:
+                    reader.next();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Moves the reader from the start of an element to the token after its end.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // the underlying file is still closed below
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * Helps with reading from and writing to XML files.
  */
 public class XmlUtil {
 
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    // creating a context is expensive, while a context may be shared by any number of threads
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,14 +56,15 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
 
     /**
      * Saves the data in the file in xml format.
+     * The data is first written to a temporary file which then replaces {@code file}, so that {@code file} holds
+     * either its old or its new contents in full even if saving is interrupted.
      *
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
@@ -61,11 +81,133 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
-        m.marshal(data, file.toFile());
+        writeAtomically(file, tempFile -> m.marshal(data, tempFile.toFile()));
+    }
+
+    /**
+     * Opens a reader of the child elements named {@code elementName} of the root element of {@code file},
+     * which converts each of them to {@code elementClass} as it is read. The reader must be closed after use.
+     *
+     * @param rootName The expected name of the root element of the file.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or has a different root element.
+     */
+    public static <T> XmlElementReader<T> openElementReader(Path file, String rootName, String elementName,
+                                                            Class<T> elementClass)
+            throws FileNotFoundException, JAXBException {
+        requireAllNonNull(file, rootName, elementName, elementClass);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try {
+            return new XmlElementReader<>(file, rootName, elementName, elementClass,
+                    getContext(elementClass).createUnmarshaller());
+        } catch (IOException e) {
+            throw new JAXBException("Unable to read " + file.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Saves {@code elements} in the file in xml format, as child elements named {@code elementName} of a root
+     * element named {@code rootName}. Each element is converted and written before the next one is taken from
+     * {@code elements}, so {@code elements} may create them lazily.
+     * Like {@link #saveDataToFile(Path, Object)}, the file is replaced as a whole.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if there is an error during converting the data
+     *                               into xml and writing to the file.
+     */
+    public static <T> void saveElementsToFile(Path file, String rootName, String elementName, Class<T> elementClass,
+                                              Iterable<? extends T> elements)
+            throws FileNotFoundException, JAXBException {
+        requireAllNonNull(file, rootName, elementName, elementClass, elements);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        QName elementQName = new QName(elementName);
+
+        writeAtomically(file, tempFile -> {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                XMLStreamWriter xmlWriter = OUTPUT_FACTORY.createXMLStreamWriter(writer);
+                xmlWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+                xmlWriter.writeCharacters("\n");
+                xmlWriter.writeStartElement(rootName);
+                for (T element : elements) {
+                    // one element per line keeps the file readable without the cost of formatted output
+                    xmlWriter.writeCharacters("\n");
+                    m.marshal(new JAXBElement<>(elementQName, elementClass, element), xmlWriter);
+                }
+                xmlWriter.writeCharacters("\n");
+                xmlWriter.writeEndElement();
+                xmlWriter.writeEndDocument();
+                xmlWriter.close();
+            } catch (XMLStreamException e) {
+                throw new JAXBException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code element} in xml format, as a single element named {@code elementName} without an xml
+     * declaration.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the element into xml.
+     */
+    public static <T> String toXmlString(String elementName, Class<T> elementClass, T element)
+            throws JAXBException {
+        requireAllNonNull(elementName, elementClass, element);
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        StringWriter writer = new StringWriter();
+        m.marshal(new JAXBElement<>(new QName(elementName), elementClass, element), writer);
+        return writer.toString();
+    }
+
+    /**
+     * Returns the single element in {@code xml}, as written by {@link #toXmlString(String, Class, Object)},
+     * as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if {@code xml} does not have the correct format.
+     */
+    public static <T> T fromXmlString(String xml, Class<T> elementClass) throws JAXBException {
+        requireAllNonNull(xml, elementClass);
+
+        Unmarshaller um = getContext(elementClass).createUnmarshaller();
+        return um.unmarshal(new StreamSource(new StringReader(xml)), elementClass).getValue();
+    }
+
+    /**
+     * Returns the shared context for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
+    /**
+     * Writes {@code file} atomically with {@code writeOperation}, as {@link FileUtil#writeAtomically} does.
+     */
+    private static void writeAtomically(Path file, FileUtil.WriteOperation<JAXBException> writeOperation)
+            throws JAXBException {
+        try {
+            FileUtil.writeAtomically(file, writeOperation);
+        } catch (IOException e) {
+            throw new JAXBException("Unable to write to " + file.toAbsolutePath(), e);
+        }
     }
 
 }
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +21,8 @@ import seedu.address.model.person.Person;
 
 /**
  * The main LogicManager of the app.
+ * Commands are executed one at a time, so that they are the single writer of the models, whether they are executed
+ * on the calling thread or on the background thread of {@link #executeAsync(String)}.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -27,6 +32,7 @@ public class LogicManager extends ComponentManager implements Logic {
     private final DiagnosisModel diagnosisModel;
     private final CommandHistory history;
     private final PatientBookParser patientBookParser;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(LogicManager::newCommandThread);
 
     public LogicManager(AddressBookModel addressBookModel, ScheduleModel scheduleModel, DiagnosisModel diagnosisModel) {
         this.addressBookModel = addressBookModel;
@@ -37,7 +43,7 @@ public class LogicManager extends ComponentManager implements Logic {
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = patientBookParser.parseCommand(commandText);
@@ -47,6 +53,26 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException | Error e) {
+                // every failure completes the result, so that callers waiting on it are never left waiting
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private static Thread newCommandThread(Runnable runnable) {
+        Thread commandThread = new Thread(runnable, "command-executor");
+        commandThread.setDaemon(true);
+        return commandThread;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return addressBookModel.getFilteredPersonList();
@@ -38,6 +38,8 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Use 'find patient' "
             + "to find all patients whose names contains any of the specified "
             + "keywords (case-insensitive)."
+            + "\nUse 'find appointment' to find an appointment by its ID, or all appointments of a patient "
+            + "by the patient's ID or with a tag."
             + "\nUse 'find disease' to find all symptoms related to any disease in your database."
             + "\nUse 'find drug' to find all drugs licensed for sale in Singapore matching this name "
             + "(only alphabetical inputs)."
@@ -47,6 +49,11 @@ public class FindCommand extends Command {
             + COMMAND_WORD
             + " patient"
             + " alice bob charlie\n"
+            + "Parameter to find appointments: APPOINTMENT_ID, PATIENT_ID or TAG\n"
+            + "Example: "
+            + COMMAND_WORD
+            + " appointment"
+            + " p1\n"
             + "Parameter to find disease: DISEASE\n"
             + "Example: "
             + COMMAND_WORD
@@ -68,8 +75,6 @@ public class FindCommand extends Command {
             + "Found the following symptoms matching ";
     public static final String DRUG_SEARCH_INITIALIZATION_FAIL = "The drug search database could not be initialized.";
     public static final String DRUG_NOT_FOUND = "No results found. Try again with a different query.";
-    public static final String DRUG_TOO_GENERIC = "Your search keyword is too generic. It will lead to hundreds "
-            + "of results. Try a more specific keyword instead.";
 
     private final String cmdType;
     private final String searchString;
@@ -115,9 +120,7 @@ public class FindCommand extends Command {
                     + CommandResult.convertListToString(symptomList);
         } else if (this.cmdType.equals(CMDTYPE_DRUG)) {
             String result = DrugSearch.find(searchString.trim().toLowerCase());
-            if (result.equals("Too generic.")) {
-                throw new CommandException(DRUG_TOO_GENERIC);
-            } else if (result.equals("Initialization failed.")) {
+            if (result.equals("Initialization failed.")) {
                 throw new CommandException(UNEXPECTED_ERROR + " " + DRUG_SEARCH_INITIALIZATION_FAIL);
             } else if (result.equals("Not found.")) {
                 throw new CommandException(DRUG_NOT_FOUND);
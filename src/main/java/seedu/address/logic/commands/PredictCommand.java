@@ -37,6 +37,9 @@ public class PredictCommand extends Command {
     public static final String DISEASE_NOT_FOUND = "We cannot "
             + "determine the identity of the disease. Please try again.";
     public static final String FOUND_DISEASE = "The diseases that you may be looking for:\n";
+    public static final String FOUND_CLOSEST_DISEASE = "No disease has all of these symptoms. "
+            + "The closest matches are:\n";
+    public static final int CLOSEST_DISEASE_LIMIT = 5;
     public static final String UNEXPECTED_ERROR = "Unexpected Error: "
             + "unacceptable values should have been prompted for.";
     public static final String EMPTY_SYMPTOM_ERROR = "Symptom should not be empty.";
@@ -69,12 +72,15 @@ public class PredictCommand extends Command {
             }
 
             List<Disease> diseases = diagnosisModel.predictDisease(symptomSet);
-            if (diseases.isEmpty()) {
+            if (!diseases.isEmpty()) {
+                return new CommandResult(FOUND_DISEASE + CommandResult.convertListToString(diseases));
+            }
+
+            List<Disease> closestDiseases = diagnosisModel.predictDiseaseRanked(symptomSet, CLOSEST_DISEASE_LIMIT);
+            if (closestDiseases.isEmpty()) {
                 throw new CommandException(DISEASE_NOT_FOUND);
             }
-            String cmdResult = FOUND_DISEASE
-                    + CommandResult.convertListToString(diseases);
-            return new CommandResult(cmdResult);
+            return new CommandResult(FOUND_CLOSEST_DISEASE + CommandResult.convertListToString(closestDiseases));
         } catch (ParseException e) {
             throw new CommandException(UNEXPECTED_ERROR, e);
         }
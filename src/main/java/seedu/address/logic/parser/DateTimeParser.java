@@ -24,15 +24,14 @@ import static seedu.address.logic.parser.ScheduleEventParser.WORD_WEDNESDAY;
 import static seedu.address.logic.parser.ScheduleEventParser.WORD_WEEK;
 import static seedu.address.logic.parser.ScheduleEventParser.WORD_WEEKS;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Comparator;
-import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.Pair;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -62,13 +61,10 @@ public class DateTimeParser {
                                                                          + "as date validity should have been checked";
     public static final String MESSAGE_UNEXPECTED_ERROR_TIME_ALR_CHECKED = "Unexpected error, "
                                                                          + "as time validity should have been checked";
-    public static final SimpleDateFormat SDF_SINGLE_DATE;
-    public static final SimpleDateFormat SDF_TIME;
-
-    static {
-        SDF_SINGLE_DATE = new SimpleDateFormat("dd/MM/yyyy");
-        SDF_TIME = new SimpleDateFormat("kk:mm");
-    }
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy")
+            .withZone(DateTimeUtil.ZONE);
+    public static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("kk:mm")
+            .withZone(DateTimeUtil.ZONE);
 
     /**
      * Parses date from input string.
@@ -318,15 +314,15 @@ public class DateTimeParser {
      */
     private Pair<Calendar> getDateFromSpecified(String dateTimeInput) throws ParseException {
         try {
-            DateFormat formatter = SDF_SINGLE_DATE;
-            Date date = formatter.parse(dateTimeInput);
-            Calendar finalDate = new GregorianCalendar();
-            finalDate.setTime(date);
+            // the fields have been checked by isValidDateFormat, and may have fewer digits than DD/MM/YYYY
+            String[] splitDateString = dateTimeInput.split("/");
+            Calendar finalDate = new GregorianCalendar(Integer.parseInt(splitDateString[2]),
+                    Integer.parseInt(splitDateString[1]) - 1, Integer.parseInt(splitDateString[0]));
             Calendar dateStart = (Calendar) finalDate.clone();
             Calendar dateEnd = (Calendar) finalDate.clone();
             setDateStartAndEnd(dateStart, dateEnd);
             return new Pair<>(dateStart, dateEnd);
-        } catch (java.text.ParseException e) {
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
             throw new ParseException(MESSAGE_UNEXPECTED_ERROR_DATE_ALR_CHECKED);
         }
     }
@@ -543,23 +539,18 @@ public class DateTimeParser {
         }
         StringBuilder availableTimeBuilder = new StringBuilder();
         availableTimeBuilder.append(MESSAGE_HAVE_SLOTS);
-        DateFormat dateFormatter = SDF_SINGLE_DATE;
-        DateFormat timeFormatter = SDF_TIME;
         int datePointer = -1;
         for (int j = 0; j < slots.size(); j++) {
             Calendar slotStart = slots.get(j).getKey();
             Calendar slotsEnd = slots.get(j).getValue();
             if (slotStart.get(Calendar.DATE) != datePointer) {
                 // a new date
-                Date formattableDate = slots.get(j).getKey().getTime();
-                String formattedDate = dateFormatter.format(formattableDate);
+                String formattedDate = DATE_FORMAT.format(slotStart.toInstant());
                 availableTimeBuilder.append("\n" + formattedDate + ":\n");
                 datePointer = slotStart.get(Calendar.DATE);
             }
-            Date formattableStartTime = slotStart.getTime();
-            Date formattableEndTime = slotsEnd.getTime();
-            String start = timeFormatter.format(formattableStartTime);
-            String end = timeFormatter.format(formattableEndTime);
+            String start = TIME_FORMAT.format(slotStart.toInstant());
+            String end = TIME_FORMAT.format(slotsEnd.toInstant());
             availableTimeBuilder.append(start + " - " + end + "\n");
         }
         return availableTimeBuilder.toString();
@@ -1,5 +1,9 @@
 package seedu.address.logic.parser;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
 import seedu.address.MainApp;
 import seedu.address.logic.parser.exceptions.PromptException;
 import seedu.address.ui.PromptWindow;
@@ -32,7 +36,7 @@ public class Prompt {
      */
     public String promptForMoreInput (String leadingMessage, String messageToUser, boolean isInputCompulsory)
             throws PromptException {
-        promptWindow = mainApp.showPromptWindow(leadingMessage + messageToUser);
+        promptWindow = showPromptWindow(leadingMessage + messageToUser);
         if (promptWindow.isEnterClicked()) {
             if (!promptWindow.getInput().equals(EMPTY_RESPONSE)) {
                 return promptWindow.getInput();
@@ -46,4 +50,25 @@ public class Prompt {
         }
         throw new PromptException(MESSAGE_PROMPT_CANCEL);
     }
+
+    /**
+     * Shows the prompt window on the JavaFX application thread, and waits for the user to close it if the command
+     * is being parsed on another thread.
+     */
+    private PromptWindow showPromptWindow(String input) throws PromptException {
+        if (Platform.isFxApplicationThread()) {
+            return mainApp.showPromptWindow(input);
+        }
+
+        FutureTask<PromptWindow> shownPrompt = new FutureTask<>(() -> mainApp.showPromptWindow(input));
+        Platform.runLater(shownPrompt);
+        try {
+            return shownPrompt.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PromptException(MESSAGE_PROMPT_CANCEL);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Prompt window could not be shown", e.getCause());
+        }
+    }
 }
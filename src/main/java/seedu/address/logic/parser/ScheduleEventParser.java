@@ -173,35 +173,29 @@ public class ScheduleEventParser {
         String availableTimeSlots = dateTimeParser.getAvailableTimeSlotsBetween(scheduledAppts, dateInterval);
         String timeSlotInput = new Prompt().promptForMoreInput(MESSAGE_PROMPT_TIMESLOT, availableTimeSlots, true);
         Pair<Calendar> timeSlot = dateTimeParser.parseTimeSlot(timeSlotInput.trim());
-        verifyTimeSlotValidity(dateInterval, scheduledAppts, timeSlot);
+        verifyTimeSlotValidity(dateInterval, timeSlot);
         return timeSlot;
     }
 
     /**
      * Verifies if the given time slot is valid.
      * It is valid only when the time slot is within the range specified
-     * and the time slot does not clash with any other appointment within the range specified.
+     * and the time slot does not clash with any other appointment.
      * @param dateInterval The time range specified.
-     * @param scheduledAppts The list of already scheduled appointments within the range.
      * @param timeSlot The given time slot.
      * @throws ParseException If an error occurs during parsing, indicating invalid time slot.
      */
-    private void verifyTimeSlotValidity(Pair<Calendar> dateInterval, List<ScheduleEvent> scheduledAppts,
-                                        Pair<Calendar> timeSlot) throws ParseException {
+    private void verifyTimeSlotValidity(Pair<Calendar> dateInterval, Pair<Calendar> timeSlot) throws ParseException {
         requireNonNull(dateInterval);
-        requireNonNull(scheduledAppts);
         requireNonNull(timeSlot);
-        if (isTimeSlotWithinRange(timeSlot, dateInterval)) {
-            for (ScheduleEvent appt: scheduledAppts) {
-                if (appt.isClashing(timeSlot)) {
-                    throw new ParseException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
-                            DateTimeParser.MESSAGE_SLOT_CLASHING));
-                }
-            }
-        } else {
+        if (!isTimeSlotWithinRange(timeSlot, dateInterval)) {
             throw new ParseException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
                     DateTimeParser.MESSAGE_SLOT_NOT_WITHIN_RANGE));
         }
+        if (!scheduleModel.getEventsClashingWith(timeSlot).isEmpty()) {
+            throw new ParseException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
+                    DateTimeParser.MESSAGE_SLOT_CLASHING));
+        }
     }
 
     /**
@@ -412,9 +406,7 @@ public class ScheduleEventParser {
      */
     private List<ScheduleEvent> getAppointmentsBetween(Pair<Calendar> dateInterval) {
         requireNonNull(dateInterval);
-        return scheduleModel.internalGetFromEventList(scheduleEvent ->
-                !scheduleEvent.getDate().getKey().before(dateInterval.getKey())
-                        && !scheduleEvent.getDate().getValue().after(dateInterval.getValue()));
+        return scheduleModel.getEventsWithin(dateInterval);
     }
 
     /**
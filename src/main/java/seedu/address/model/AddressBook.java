@@ -6,7 +6,10 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonRecords;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -46,13 +49,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces the contents of the person list with the persons of {@code records}, which are only created when
+     * they are asked for.
+     * {@code records} must not contain duplicate persons.
+     */
+    public void setPersons(PersonRecords records) {
+        this.persons.setPersons(records);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            // shares the records of the other address book instead of reading every person in them
+            persons.setPersons(((AddressBook) newData).persons);
+        } else {
+            setPersons(newData.getPersonList());
+        }
     }
 
     //// person-level operations
@@ -65,6 +82,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code personId}, including a deleted person.
+     *
+     * @throws PersonNotFoundException if no person in the address book has the ID.
+     */
+    public Person getPersonById(PersonId personId) {
+        return persons.getPerson(personId);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -111,6 +137,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable copy of the person list as it is now, which shares the records of the list.
+     * @see UniquePersonList#copyAsUnmodifiableObservableList()
+     */
+    ObservableList<Person> copyPersonList() {
+        return persons.copyAsUnmodifiableObservableList();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
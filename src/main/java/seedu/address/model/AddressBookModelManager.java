@@ -12,6 +12,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ModelChangedEvent.Change;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -24,7 +25,8 @@ public class AddressBookModelManager extends ComponentManager implements Address
 
     private final AddressBook addressBook;
 
-    private FilteredList<Person> filteredPersons;
+    // follows the changes to the address book row by row, so it keeps its predicate and is never rebuilt
+    private final FilteredList<Person> filteredPersons;
 
     /**
      * Initializes a AddressBookModelManager with the given addressBook and userPrefs.
@@ -36,7 +38,7 @@ public class AddressBookModelManager extends ComponentManager implements Address
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        this.filteredPersons = new FilteredList<>(addressBook.getPersonList());
+        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.filteredPersons.setPredicate(PREDICATE_SHOW_ALL_EXISTING_PERSONS);
     }
 
@@ -53,7 +55,7 @@ public class AddressBookModelManager extends ComponentManager implements Address
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        indicateAddressBookReset();
     }
 
     @Override
@@ -61,11 +63,16 @@ public class AddressBookModelManager extends ComponentManager implements Address
         return addressBook;
     }
 
-    /** Raises an event to indicate the addressBookModel has changed. */
-    private void indicateAddressBookChanged() {
-        this.filteredPersons = new FilteredList<>(addressBook.getPersonList());
-        this.filteredPersons.setPredicate(PREDICATE_SHOW_ALL_EXISTING_PERSONS);
-        raise(new AddressBookChangedEvent(addressBook));
+    /** Raises an event to indicate the whole addressBookModel has been reset. */
+    private void indicateAddressBookReset() {
+        // the handlers may run after this returns, so they are given a copy which later changes do not affect
+        raise(new AddressBookChangedEvent(new AddressBookSnapshot(addressBook)));
+    }
+
+    /** Raises an event to indicate the person with {@code personId} in the addressBookModel has changed. */
+    private void indicateAddressBookChanged(Change change, PersonId personId) {
+        raise(new AddressBookChangedEvent(new AddressBookSnapshot(addressBook), change,
+                addressBook.getPersonById(personId)));
     }
 
     @Override
@@ -77,13 +84,13 @@ public class AddressBookModelManager extends ComponentManager implements Address
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(Change.REMOVED, target.getId());
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(Change.ADDED, person.getId());
     }
 
     @Override
@@ -91,7 +98,7 @@ public class AddressBookModelManager extends ComponentManager implements Address
         requireAllNonNull(target, editedPerson);
 
         addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(Change.UPDATED, editedPerson.getId());
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -124,11 +131,8 @@ public class AddressBookModelManager extends ComponentManager implements Address
 
     @Override
     public Person getPersonById(PersonId personId) throws PersonNotFoundException {
-        ObservableList<Person> tempList = internalGetFromPersonList(p -> p.getId().equals(personId));
-        if (tempList.size() != 1) {
-            throw new PersonNotFoundException();
-        }
-        return tempList.get(0);
+        requireNonNull(personId);
+        return addressBook.getPersonById(personId);
     }
 
     //=========== Undo/Redo =================================================================================
@@ -0,0 +1,31 @@
+package seedu.address.model;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the persons of an address book as they were when it was taken, which later changes to
+ * the address book do not affect.
+ * Unlike {@code new AddressBook(addressBook)}, taking one only copies the list of persons, without checking them
+ * for duplicates or indexing them again, since they come from an address book which has done both already.
+ * Persons still kept as records, such as those of a mapped file, are shared rather than read, so that taking a
+ * snapshot after every change does not read the whole file.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    AddressBookSnapshot(AddressBook addressBook) {
+        persons = addressBook.copyPersonList();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons (including deleted entries)";
+    }
+}
@@ -5,14 +5,17 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,6 +25,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.symptom.Disease;
 import seedu.address.model.symptom.Symptom;
+import seedu.address.model.symptom.SymptomIndex;
 
 /**
  * Wraps all data at the diagnosis level.
@@ -30,12 +34,39 @@ public class Diagnosis {
 
     private static final String pathStringForCSV = "datasetForSymptomAndDisease.csv";
     private static final String relativePath = "/storage/datasetForSymptomAndDisease.csv";
+
+    // null if this diagnosis is only kept in memory
+    private final Path csvFile;
     private HashMap<Disease, Set<Symptom>> matcher;
 
+    // index of the diseases which list each symptom, kept in sync with matcher
+    private SymptomIndex symptomIndex;
+
+    // state of csvFile as of the last read or write, used to detect changes made outside the app
+    private FileTime csvFileModifiedTime;
+    private long csvFileSize;
 
     public Diagnosis() {
-        matcher = this.readDataFromCsvFile();
+        this(Paths.get(pathStringForCSV));
+    }
+
+    /**
+     * Creates a {@code Diagnosis} backed by the given CSV storage file.
+     */
+    Diagnosis(Path csvFile) {
+        requireNonNull(csvFile);
+        this.csvFile = csvFile;
+        reloadMatchers();
+    }
+
+    /**
+     * Creates a {@code Diagnosis} backed by the given disease-symptom matcher instead of the CSV storage file.
+     */
+    Diagnosis(HashMap<Disease, Set<Symptom>> matcher) {
         requireNonNull(matcher);
+        this.csvFile = null;
+        this.matcher = matcher;
+        this.symptomIndex = buildSymptomIndex(matcher);
     }
 
     /**
@@ -84,14 +115,99 @@ public class Diagnosis {
      * @param disease  disease input.
      * @param symptoms related symptoms.
      */
-
-
     public void addMatcher(Disease disease, Set<Symptom> symptoms) {
         requireNonNull(disease);
         requireAllNonNull(symptoms);
-        boolean hasDisease = this.hasDisease(disease);
-        if (!hasDisease) {
-            this.matcher = writeDataToCsvFile(disease, symptoms);
+        Map<Disease, Set<Symptom>> matchers = new HashMap<>();
+        matchers.put(disease, symptoms);
+        addMatchers(matchers);
+    }
+
+    /**
+     * Adds diseases and their related symptoms into the database, appending them to the CSV storage file at once.
+     * Diseases which are already in the database are ignored.
+     *
+     * @param matchers a Map object which its key is the disease and value is its related symptoms.
+     */
+    public void addMatchers(Map<Disease, Set<Symptom>> matchers) {
+        requireNonNull(matchers);
+        requireAllNonNull(matchers.keySet());
+        for (Set<Symptom> symptoms : matchers.values()) {
+            requireAllNonNull(symptoms);
+        }
+        reloadMatchersIfChanged();
+
+        // the new records are parsed back the same way as when reading the file, so no full reload is needed
+        HashMap<Disease, Set<Symptom>> newMatcher = new HashMap<>();
+        StringBuilder data = new StringBuilder();
+        for (Map.Entry<Disease, Set<Symptom>> entry : matchers.entrySet()) {
+            String line = Diagnosis.stringConverter(entry.getKey().toString(), entry.getValue());
+            String record = line.substring(0, line.length() - 1);
+            Disease disease = parseDisease(record);
+            if (!hasDisease(disease) && !newMatcher.containsKey(disease)) {
+                newMatcher.put(disease, parseSymptoms(record));
+                data.append(line);
+            }
+        }
+        if (newMatcher.isEmpty()) {
+            return;
+        }
+
+        if (csvFile != null) {
+            try {
+                FileUtil.writeToCsvFile(csvFile, data.toString());
+                recordCsvFileState();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+        }
+        for (Map.Entry<Disease, Set<Symptom>> entry : newMatcher.entrySet()) {
+            matcher.put(entry.getKey(), entry.getValue());
+            symptomIndex.addDisease(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Discards the data in memory and reads it again from the CSV storage file.
+     */
+    public void reloadMatchers() {
+        if (csvFile == null) {
+            return;
+        }
+        this.matcher = readDataFromCsvFile(csvFile);
+        this.symptomIndex = buildSymptomIndex(matcher);
+        recordCsvFileState();
+    }
+
+    /**
+     * Reloads the data if the CSV storage file has been modified since it was last read or written by this diagnosis.
+     */
+    private void reloadMatchersIfChanged() {
+        if (csvFile == null) {
+            return;
+        }
+        try {
+            if (!FileUtil.isFileExists(csvFile)
+                    || !Files.getLastModifiedTime(csvFile).equals(csvFileModifiedTime)
+                    || Files.size(csvFile) != csvFileSize) {
+                reloadMatchers();
+            }
+        } catch (IOException e) {
+            reloadMatchers();
+        }
+    }
+
+    /**
+     * Remembers the current modification time and size of the CSV storage file.
+     */
+    private void recordCsvFileState() {
+        try {
+            csvFileModifiedTime = Files.getLastModifiedTime(csvFile);
+            csvFileSize = Files.size(csvFile);
+        } catch (IOException e) {
+            // forces a reload on the next update
+            csvFileModifiedTime = null;
         }
     }
 
@@ -103,51 +219,90 @@ public class Diagnosis {
      */
     public List<Disease> predictDisease(Set<Symptom> symptoms) {
         requireAllNonNull(symptoms);
-        List<Disease> diseases = this.matcher.keySet().stream()
-                .filter(disease -> this.matcher.get(disease).containsAll(symptoms)).collect(Collectors.toList());
+        List<Disease> diseases = symptomIndex.findDiseasesWithAll(symptoms);
         diseases.sort(Comparator.comparing(Disease::toString));
         return diseases;
     }
 
+    /**
+     * Predicts the diseases closest to a given set of symptoms, including those which lack some of the symptoms.
+     *
+     * @param symptoms symptoms input.
+     * @param limit the maximum number of diseases to return.
+     * @return a list of diseases sharing at least one symptom with the input, most similar first.
+     */
+    public List<Disease> predictDiseaseRanked(Set<Symptom> symptoms, int limit) {
+        requireAllNonNull(symptoms);
+        return symptomIndex.rankDiseases(symptoms, limit);
+    }
+
+    /**
+     * Builds the symptom index of all diseases in the matcher.
+     *
+     * @param matcher a HashMap object which its key is the disease and value is its related symptoms.
+     * @return the index of the matcher.
+     */
+    private static SymptomIndex buildSymptomIndex(HashMap<Disease, Set<Symptom>> matcher) {
+        SymptomIndex index = new SymptomIndex();
+        for (Map.Entry<Disease, Set<Symptom>> entry : matcher.entrySet()) {
+            index.addDisease(entry.getKey(), entry.getValue());
+        }
+        return index;
+    }
+
     /**
      * Gets the data from CSV storage file.
      *
+     * @param csvFile the CSV storage file, which is created from the bundled dataset if it does not exist.
      * @return a HashMap object which its key is the disease and value is its related symptoms.
      */
-
-    private static HashMap<Disease, Set<Symptom>> readDataFromCsvFile() {
+    private static HashMap<Disease, Set<Symptom>> readDataFromCsvFile(Path csvFile) {
 
         try {
             HashMap<Disease, Set<Symptom>> diseaseSymptomMatcher = new HashMap<>();
 
-            if (!FileUtil.isFileExists(Paths.get(pathStringForCSV))) {
-                FileUtil.createFile(Paths.get(pathStringForCSV));
+            if (!FileUtil.isFileExists(csvFile)) {
+                FileUtil.createFile(csvFile);
                 InputStream inputStream = MainApp.class
                         .getResourceAsStream(relativePath);
-                FileUtil.writeToCsvFile(Paths.get(pathStringForCSV),
+                FileUtil.writeToCsvFile(csvFile,
                         Diagnosis.convertStreamToString(inputStream));
             }
 
-            List<String> strings = FileUtil.readFromCsvFile(Paths.get(pathStringForCSV));
-            for (int i = 0; i < strings.size(); i++) {
-                String[] nextRecord = strings.get(i).split(",");
-                Disease disease = new Disease(nextRecord[0].toLowerCase());
-                nextRecord = ArrayUtils.remove(nextRecord, 0);
-                List<String> symptomsList = Arrays.asList(nextRecord);
-                List<Symptom> symptoms = symptomsList.stream().map(x -> new Symptom(x.toLowerCase()))
-                        .collect(Collectors.toList());
-                HashSet<Symptom> symptoms1 = new HashSet<>();
-                symptoms1.addAll(symptoms);
-                diseaseSymptomMatcher.put(disease, symptoms1);
+            List<String> strings = FileUtil.readFromCsvFile(csvFile);
+            for (String record : strings) {
+                diseaseSymptomMatcher.put(parseDisease(record), parseSymptoms(record));
             }
             return diseaseSymptomMatcher;
 
         } catch (Exception e) {
             e.printStackTrace();
-            return null;
+            return new HashMap<>();
         }
     }
 
+    /**
+     * Parses the disease of a record in the CSV storage file.
+     */
+    private static Disease parseDisease(String record) {
+        String[] nextRecord = record.split(",");
+        return new Disease(nextRecord[0].toLowerCase());
+    }
+
+    /**
+     * Parses the related symptoms of a record in the CSV storage file.
+     */
+    private static Set<Symptom> parseSymptoms(String record) {
+        String[] nextRecord = record.split(",");
+        nextRecord = ArrayUtils.remove(nextRecord, 0);
+        List<String> symptomsList = Arrays.asList(nextRecord);
+        List<Symptom> symptoms = symptomsList.stream().map(x -> new Symptom(x.toLowerCase()))
+                .collect(Collectors.toList());
+        HashSet<Symptom> symptoms1 = new HashSet<>();
+        symptoms1.addAll(symptoms);
+        return symptoms1;
+    }
+
     /**
      * Converts a stream to a string.
      *
@@ -159,25 +314,6 @@ public class Diagnosis {
         return s.hasNext() ? s.next() : "";
     }
 
-    /**
-     * Writes new data to CSV storage file.
-     *
-     * @return a new ashMap object which its key is the disease and value is its related symptoms.
-     */
-    private static HashMap<Disease, Set<Symptom>> writeDataToCsvFile(Disease disease, Set<Symptom> symptoms) {
-
-        try {
-            String data = Diagnosis.stringConverter(disease.toString(), symptoms);
-            Path path = Paths.get(pathStringForCSV);
-            FileUtil.writeToCsvFile(path, data);
-
-            return Diagnosis.readDataFromCsvFile();
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
-
     /**
      * Formats the string with disease and related symptoms so that it can be written to CSV file.
      *
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.model.symptom.Disease;
@@ -41,6 +42,19 @@ public interface DiagnosisModel {
      */
     void addMatcher(Disease disease, Set<Symptom> symptoms);
 
+    /**
+     * Adds diseases and their related symptoms into the database at once.
+     * Diseases which are already in the database are ignored.
+     *
+     * @param matchers a Map object which its key is the disease and value is its related symptoms.
+     */
+    void addMatchers(Map<Disease, Set<Symptom>> matchers);
+
+    /**
+     * Discards the data in memory and reads it again from storage.
+     */
+    void reloadMatchers();
+
     /**
      * Predicts a disease with a given set of symptoms.
      *
@@ -49,4 +63,13 @@ public interface DiagnosisModel {
      */
     List<Disease> predictDisease(Set<Symptom> symptoms);
 
+    /**
+     * Predicts the diseases closest to a given set of symptoms, including those which lack some of the symptoms.
+     *
+     * @param symptoms symptoms input.
+     * @param limit the maximum number of diseases to return.
+     * @return a list of diseases sharing at least one symptom with the input, most similar first.
+     */
+    List<Disease> predictDiseaseRanked(Set<Symptom> symptoms, int limit);
+
 }
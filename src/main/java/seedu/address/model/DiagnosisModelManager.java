@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.model.symptom.Disease;
@@ -44,9 +45,26 @@ public class DiagnosisModelManager implements DiagnosisModel {
         diagnosis.addMatcher(disease, symptoms);
     }
 
+    @Override
+    public void addMatchers(Map<Disease, Set<Symptom>> matchers) {
+        requireNonNull(matchers);
+        diagnosis.addMatchers(matchers);
+    }
+
+    @Override
+    public void reloadMatchers() {
+        diagnosis.reloadMatchers();
+    }
+
     @Override
     public List<Disease> predictDisease(Set<Symptom> symptoms) {
         requireAllNonNull(symptoms);
         return diagnosis.predictDisease(symptoms);
     }
+
+    @Override
+    public List<Disease> predictDiseaseRanked(Set<Symptom> symptoms, int limit) {
+        requireAllNonNull(symptoms);
+        return diagnosis.predictDiseaseRanked(symptoms, limit);
+    }
 }
@@ -1,9 +1,11 @@
 package seedu.address.model;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.logging.Logger;
 
-import seedu.address.commons.util.DrugCsvUtil;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.drug.DrugSearchCache;
+import seedu.address.model.drug.DrugTable;
 
 /**
  * For returning pharmacological information about drugs whose names match a certain keyword.
@@ -11,56 +13,60 @@ import seedu.address.commons.util.DrugCsvUtil;
 
 public class DrugSearch {
 
-    //cached results of most recent keyword search
-    private static ArrayList<String[]> resultsCache = new ArrayList<>();
+    //maximum number of results shown for a single search, so that generic keywords do not flood the output
+    private static final int RESULT_LIMIT = 20;
 
-    /**
-     * keywords too generic to search for, as they will match tens of drugs
-     */
-    private static String[] tooGeneric = {
-        "capsule", "cream", "emulsi", "gel", "hydrochloride",
-        "injection", "lotion", "ointment", "paste", "patch", "pill", "powder",
-        "solution", "supposit", "syrup", "tablet"
-    };
+    //maximum number of recent searches whose results are cached
+    private static final int CACHE_CAPACITY = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(DrugSearch.class);
+
+    //cached results of recent keyword searches, as rows of the drug table
+    private static final DrugSearchCache resultsCache = new DrugSearchCache(CACHE_CAPACITY);
+
+    //normalized keyword of the most recent search, whose results are referred to by moreinfo indices
+    private static volatile String lastQuery;
 
     /**
-     * Find in "dataSetForDrugs.csv" all drugs whose names
-     * contain the given keyword.
+     * Find in "dataSetForDrugs.csv" the drugs whose name, active ingredients,
+     * ATC code or license holder best match the given keyword, allowing for typos.
      *
      * @return a formatted String containing the list (and
-     * pharmacological data) of all matching drugs.
+     * pharmacological data) of the best matching drugs.
      */
     public static String find(String keyword) {
         String results = "";
-        resultsCache.clear(); //clearing cached results from previous search
-
-        for (String i: tooGeneric) {
-            if (i.toLowerCase().contains(keyword.toLowerCase())) {
-                return "Too generic.";
-            }
-        }
+        String query = DrugTable.normalizeQuery(keyword);
 
+        DrugTable database;
+        int[] rows;
         try {
-            DrugCsvUtil database = new DrugCsvUtil(keyword);
-            String[] nextMatchingEntry;
-            while ((nextMatchingEntry = database.nextMatchingEntry()) != null) {
-                resultsCache.add(nextMatchingEntry);
-            }
+            database = DrugTable.getInstance();
+            rows = getResults(database, query);
         } catch (IOException e) {
             e.printStackTrace();
             return "Initialization failed.";
         }
+        lastQuery = query;
 
-        for (int i = 0; i < resultsCache.size(); i++) {
-            String[] currentRecord = resultsCache.get(i);
-            results = results.concat(String.format("%5s %s", (i + 1) + ".", "Name: " + currentRecord[1]));
+        boolean hasMoreResults = rows.length > RESULT_LIMIT;
+        int resultCount = Math.min(rows.length, RESULT_LIMIT);
+        for (int i = 0; i < resultCount; i++) {
+            int row = rows[i];
+            results = results.concat(String.format("%5s %s", (i + 1) + ".",
+                    "Name: " + database.get(row, DrugTable.PRODUCT_NAME)));
             results = results.concat("\n" + String.format("%5s %s", "", " Active Ingredient(s): "
-                    + currentRecord[10].replace("&&", ", ")));
-            results = results.concat("\n" + String.format("%5s %s", "", " Classification: " + currentRecord[4]));
+                    + database.get(row, DrugTable.ACTIVE_INGREDIENTS).replace("&&", ", ")));
+            results = results.concat("\n" + String.format("%5s %s", "", " Classification: "
+                    + database.get(row, DrugTable.FORENSIC_CLASSIFICATION)));
             results = results.concat("\n\n");
         }
 
-        if (resultsCache.size() > 0) {
+        if (hasMoreResults) {
+            results = results.concat("Only the closest " + RESULT_LIMIT + " results are shown. "
+                    + "Enter a more specific keyword to narrow them down.\n");
+        }
+        if (resultCount > 0) {
             results = results.concat("For more information about any result, enter \"moreinfo [INDEX]\"");
         } else {
             results = "Not found.";
@@ -75,25 +81,44 @@ public class DrugSearch {
      */
     public static String moreInfo(int index) {
         String results = "";
+        String query = lastQuery;
         try {
-            if (resultsCache.isEmpty()) {
+            DrugTable database = DrugTable.getInstance();
+            int[] rows = query == null ? new int[0] : getResults(database, query);
+            if (rows.length == 0) {
                 return "Empty.";
             }
 
-            index--;
-            String[] record = resultsCache.get(index);
-            results = results.concat("Name: " + record[1]);
-            results = results.concat("\nActive Ingredient(s): " + record[10].replace("&&", ", "));
-            results = results.concat("\nStrengths Available: " + record[11].replace("&&", ", "));
-            results = results.concat("\nDosage Form: " + record[6]);
-            results = results.concat("\nAdministration : " + record[7].replace("&&", ", "));
-            results = results.concat("\nClassification: " + record[4]);
-            results = results.concat("\nLicense Holder: " + record[2]);
-            results = results.concat("\nATC Code: " + record[5]);
+            if (index < 1 || index > Math.min(rows.length, RESULT_LIMIT)) {
+                return "Not in cache.";
+            }
+            int row = rows[index - 1];
+            results = results.concat("Name: " + database.get(row, DrugTable.PRODUCT_NAME));
+            results = results.concat("\nActive Ingredient(s): "
+                    + database.get(row, DrugTable.ACTIVE_INGREDIENTS).replace("&&", ", "));
+            results = results.concat("\nStrengths Available: "
+                    + database.get(row, DrugTable.STRENGTH).replace("&&", ", "));
+            results = results.concat("\nDosage Form: " + database.get(row, DrugTable.DOSAGE_FORM));
+            results = results.concat("\nAdministration : "
+                    + database.get(row, DrugTable.ROUTE_OF_ADMINISTRATION).replace("&&", ", "));
+            results = results.concat("\nClassification: " + database.get(row, DrugTable.FORENSIC_CLASSIFICATION));
+            results = results.concat("\nLicense Holder: " + database.get(row, DrugTable.LICENSE_HOLDER));
+            results = results.concat("\nATC Code: " + database.get(row, DrugTable.ATC_CODE));
 
             return results;
-        } catch (IndexOutOfBoundsException e) {
-            return "Not in cache.";
+        } catch (IOException e) {
+            e.printStackTrace();
+            return "Empty.";
         }
     }
+
+    /**
+     * Returns the rows matching the normalized {@code query}, from the cache if it has been searched for recently.
+     */
+    private static int[] getResults(DrugTable database, String query) {
+        int[] rows = resultsCache.computeIfAbsent(query, unused -> database.search(query, RESULT_LIMIT + 1));
+        logger.fine("Drug search cache hits: " + resultsCache.getHitCount()
+                + ", misses: " + resultsCache.getMissCount());
+        return rows;
+    }
 }
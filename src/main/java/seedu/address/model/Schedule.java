@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Calendar;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.Pair;
+import seedu.address.model.event.EventId;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.UniqueScheduleEventList;
+import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the calendar level
@@ -86,6 +92,50 @@ public class Schedule implements ReadOnlySchedule {
         eventList.remove(key);
     }
 
+    /**
+     * Removes all the events for the person with {@code personId} from this {@code Schedule}, and returns them.
+     */
+    public List<ScheduleEvent> removeScheduleEventsForPerson(PersonId personId) {
+        return eventList.removeAllForPerson(personId);
+    }
+
+    /**
+     * Returns the event with the given {@code eventId}.
+     *
+     * @throws ScheduleEventNotFoundException if no event in this {@code Schedule} has the ID.
+     */
+    public ScheduleEvent getScheduleEvent(EventId eventId) {
+        return eventList.getScheduleEvent(eventId);
+    }
+
+    /**
+     * Returns the events for the person with {@code personId}, in the order they were added.
+     */
+    public List<ScheduleEvent> getEventsForPerson(PersonId personId) {
+        return eventList.getEventsForPerson(personId);
+    }
+
+    /**
+     * Returns the events with {@code tag}, in the order they were added.
+     */
+    public List<ScheduleEvent> getEventsWithTag(Tag tag) {
+        return eventList.getEventsWithTag(tag);
+    }
+
+    /**
+     * Returns the events which lie entirely within {@code range}, in order of start time.
+     */
+    public List<ScheduleEvent> getEventsWithin(Pair<Calendar> range) {
+        return eventList.getEventsWithin(range);
+    }
+
+    /**
+     * Returns the events which clash with {@code duration}, in order of start time.
+     */
+    public List<ScheduleEvent> getEventsClashingWith(Pair<Calendar> duration) {
+        return eventList.getEventsClashingWith(duration);
+    }
+
     //// util methods
 
     @Override
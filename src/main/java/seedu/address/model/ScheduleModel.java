@@ -1,22 +1,23 @@
 package seedu.address.model;
 
 import java.util.Calendar;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.EventId;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the ScheduleModel component.
  */
 public interface ScheduleModel {
     /** {@code Predicate} that shows all future events */
-    Predicate<ScheduleEvent> PREDICATE_SHOW_SCHEDULE_EVENTS = e -> {
-        Calendar currentDay = Calendar.getInstance();
-        return e.getDate().getKey().compareTo(currentDay) > 0;
-    };
+    Predicate<ScheduleEvent> PREDICATE_SHOW_SCHEDULE_EVENTS = e -> e.getStartMillis() > System.currentTimeMillis();
 
     /** {@code Predicate} that shows all events, including those in the past */
     Predicate<ScheduleEvent> PREDICATE_SHOW_ALL_SCHEDULE_EVENTS = unused -> true;
@@ -38,6 +39,11 @@ public interface ScheduleModel {
      */
     void deleteEvent(ScheduleEvent target);
 
+    /**
+     * Deletes all the events for the person with {@code personId}, as a single change to the calendar.
+     */
+    void deleteEventsForPerson(PersonId personId);
+
     /**
      * Adds the given event.
      * {@code scheduleEvent} must not already exist in the calendar.
@@ -68,6 +74,27 @@ public interface ScheduleModel {
      */
     ObservableList<ScheduleEvent> internalGetFromEventList(Predicate<ScheduleEvent> predicate);
 
+    /**
+     * Returns the events which start no earlier than the start of {@code range} and end no later than its end,
+     * sorted by start time, without updating the UI.
+     */
+    List<ScheduleEvent> getEventsWithin(Pair<Calendar> range);
+
+    /**
+     * Returns the events which clash with {@code duration}, sorted by start time, without updating the UI.
+     */
+    List<ScheduleEvent> getEventsClashingWith(Pair<Calendar> duration);
+
+    /**
+     * Returns the events for the person with {@code personId}, in the order they were added, without updating the UI.
+     */
+    List<ScheduleEvent> getEventsForPerson(PersonId personId);
+
+    /**
+     * Returns the events with {@code tag}, in the order they were added, without updating the UI.
+     */
+    List<ScheduleEvent> getEventsWithTag(Tag tag);
+
     /**
      * Finds a person by their Id. O
      * @param eventId Lookup id.
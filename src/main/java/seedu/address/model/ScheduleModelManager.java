@@ -3,7 +3,9 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Calendar;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,10 +15,14 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.ModelChangedEvent.Change;
 import seedu.address.commons.events.model.ScheduleChangedEvent;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.EventId;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Actual schedule model manager for handling schedule in the application.
@@ -25,7 +31,8 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     private static final Logger logger = LogsCenter.getLogger(ScheduleModelManager.class);
 
     private final Schedule schedule;
-    private FilteredList<ScheduleEvent> filteredScheduleEventList;
+    // follows the changes to the schedule row by row, so it keeps its predicate and is never rebuilt
+    private final FilteredList<ScheduleEvent> filteredScheduleEventList;
 
     /**
      * Initializes a ScheduleModelManager with the given schedule and userPrefs.
@@ -37,7 +44,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         logger.fine("Initializing with schedule: " + schedule + "and user prefs " + userPrefs);
 
         this.schedule = new Schedule(schedule);
-        this.filteredScheduleEventList = new FilteredList<>(schedule.getAllEventList());
+        this.filteredScheduleEventList = new FilteredList<>(this.schedule.getAllEventList());
         this.filteredScheduleEventList.setPredicate(PREDICATE_SHOW_SCHEDULE_EVENTS);
     }
 
@@ -52,7 +59,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     @Override
     public void resetData(ReadOnlySchedule newData) {
         schedule.resetData(newData);
-        indicateScheduleChanged();
+        indicateScheduleReset();
     }
 
     @Override
@@ -60,11 +67,15 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         return schedule;
     }
 
-    /** Raises an event to indicate the calendarModel has changed. */
-    private void indicateScheduleChanged() {
-        this.filteredScheduleEventList = new FilteredList<>(schedule.getAllEventList());
-        this.filteredScheduleEventList.setPredicate(PREDICATE_SHOW_SCHEDULE_EVENTS);
-        raise(new ScheduleChangedEvent(schedule));
+    /** Raises an event to indicate the whole calendarModel has been reset. */
+    private void indicateScheduleReset() {
+        // the handlers may run after this returns, so they are given a copy which later changes do not affect
+        raise(new ScheduleChangedEvent(new ScheduleSnapshot(schedule)));
+    }
+
+    /** Raises an event to indicate {@code event} in the calendarModel has changed. */
+    private void indicateScheduleChanged(Change change, ScheduleEvent event) {
+        raise(new ScheduleChangedEvent(new ScheduleSnapshot(schedule), change, event));
     }
 
     @Override
@@ -76,14 +87,23 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     @Override
     public void deleteEvent(ScheduleEvent target) {
         schedule.removeScheduleEvent(target);
-        indicateScheduleChanged();
+        indicateScheduleChanged(Change.REMOVED, target);
+    }
+
+    @Override
+    public void deleteEventsForPerson(PersonId personId) {
+        requireNonNull(personId);
+        List<ScheduleEvent> removed = schedule.removeScheduleEventsForPerson(personId);
+        if (!removed.isEmpty()) {
+            raise(new ScheduleChangedEvent(new ScheduleSnapshot(schedule), Change.REMOVED, removed));
+        }
     }
 
     @Override
     public void addEvent(ScheduleEvent event) {
         schedule.addScheduleEvent(event);
         this.updateFilteredEventList(PREDICATE_SHOW_SCHEDULE_EVENTS);
-        indicateScheduleChanged();
+        indicateScheduleChanged(Change.ADDED, event);
     }
 
     @Override
@@ -91,7 +111,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         requireAllNonNull(target, editedScheduleEvent);
 
         schedule.updateScheduleEvent(target, editedScheduleEvent);
-        indicateScheduleChanged();
+        indicateScheduleChanged(Change.UPDATED, editedScheduleEvent);
     }
 
 
@@ -127,13 +147,34 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         return FXCollections.unmodifiableObservableList(sortedSchedule);
     }
 
+    @Override
+    public List<ScheduleEvent> getEventsWithin(Pair<Calendar> range) {
+        requireNonNull(range);
+        return schedule.getEventsWithin(range);
+    }
+
+    @Override
+    public List<ScheduleEvent> getEventsClashingWith(Pair<Calendar> duration) {
+        requireNonNull(duration);
+        return schedule.getEventsClashingWith(duration);
+    }
+
+    @Override
+    public List<ScheduleEvent> getEventsForPerson(PersonId personId) {
+        requireNonNull(personId);
+        return schedule.getEventsForPerson(personId);
+    }
+
+    @Override
+    public List<ScheduleEvent> getEventsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return schedule.getEventsWithTag(tag);
+    }
+
     @Override
     public ScheduleEvent getEventById(EventId eventId) throws ScheduleEventNotFoundException {
-        ObservableList<ScheduleEvent> tempList = internalGetFromEventList(e -> e.getId().equals(eventId));
-        if (tempList.size() != 1) {
-            throw new ScheduleEventNotFoundException();
-        }
-        return tempList.get(0);
+        requireNonNull(eventId);
+        return schedule.getScheduleEvent(eventId);
     }
 
 
@@ -157,7 +198,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     public class ScheduleEventComparator implements Comparator<ScheduleEvent> {
         @Override
         public int compare(ScheduleEvent first, ScheduleEvent second) {
-            return first.getDate().getKey().compareTo(second.getDate().getKey());
+            return Long.compare(first.getStartMillis(), second.getStartMillis());
         }
     }
 
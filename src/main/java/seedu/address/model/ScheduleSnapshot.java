@@ -0,0 +1,32 @@
+package seedu.address.model;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.ScheduleEvent;
+
+/**
+ * An unmodifiable copy of the events of a schedule as they were when it was taken, which later changes to the
+ * schedule do not affect.
+ * Unlike {@code new Schedule(schedule)}, taking one only copies the list of events, without checking them for
+ * duplicates or indexing them again, since they come from a schedule which has done both already.
+ * The events of a schedule are always held in memory, so this copies references to them without creating any.
+ */
+class ScheduleSnapshot implements ReadOnlySchedule {
+
+    private final ObservableList<ScheduleEvent> events;
+
+    ScheduleSnapshot(ReadOnlySchedule schedule) {
+        events = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(schedule.getAllEventList()));
+    }
+
+    @Override
+    public ObservableList<ScheduleEvent> getAllEventList() {
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return events.size() + " events.";
+    }
+}
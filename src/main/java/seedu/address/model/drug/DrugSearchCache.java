@@ -0,0 +1,63 @@
+package seedu.address.model.drug;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe, least recently used cache of drug search results.
+ * Results are stored as rows of the shared {@link DrugTable}, keyed by the normalized query which produced them.
+ */
+public class DrugSearchCache {
+
+    private final LinkedHashMap<String, int[]> entries;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache holding the results of at most {@code capacity} queries.
+     */
+    public DrugSearchCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive.");
+        }
+        entries = new LinkedHashMap<String, int[]>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the rows cached for {@code query}, first running {@code search} on it if they are not cached.
+     * {@code query} should already be normalized with {@link DrugTable#normalizeQuery(String)}.
+     */
+    public synchronized int[] computeIfAbsent(String query, Function<String, int[]> search) {
+        requireNonNull(query);
+        requireNonNull(search);
+        int[] rows = entries.get(query);
+        if (rows != null) {
+            hitCount++;
+        } else {
+            missCount++;
+            rows = search.apply(query);
+            entries.put(query, rows);
+        }
+        return rows.clone();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.model.drug;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.commons.util.DrugCsvUtil;
+
+/**
+ * An in-memory, read-only copy of the drug dataset.
+ * Each column is kept in its own array, with repeated values such as license holders or dosage forms shared,
+ * and the columns which users search by are indexed for substring and typo tolerant search.
+ */
+public class DrugTable {
+
+    public static final int LICENCE_NO = 0;
+    public static final int PRODUCT_NAME = 1;
+    public static final int LICENSE_HOLDER = 2;
+    public static final int APPROVAL_DATE = 3;
+    public static final int FORENSIC_CLASSIFICATION = 4;
+    public static final int ATC_CODE = 5;
+    public static final int DOSAGE_FORM = 6;
+    public static final int ROUTE_OF_ADMINISTRATION = 7;
+    public static final int MANUFACTURER = 8;
+    public static final int COUNTRY_OF_MANUFACTURER = 9;
+    public static final int ACTIVE_INGREDIENTS = 10;
+    public static final int STRENGTH = 11;
+    private static final int COLUMN_COUNT = 12;
+
+    // searched columns, from the one whose matches rank highest to the one whose matches rank lowest
+    private static final int[] SEARCHED_COLUMNS = {PRODUCT_NAME, ACTIVE_INGREDIENTS, ATC_CODE, LICENSE_HOLDER};
+
+    // queries of up to this many characters must match exactly, and longer ones may contain one typo
+    private static final int EXACT_QUERY_LENGTH = 3;
+    // queries of more than this many characters may contain two typos
+    private static final int ONE_TYPO_QUERY_LENGTH = 7;
+
+    private static final int NOT_MATCHED = Integer.MAX_VALUE;
+
+    private static DrugTable instance;
+
+    // columns[column][row]
+    private final String[][] columns;
+    private final int rowCount;
+    private final TrigramIndex[] searchIndexes;
+
+    // reused by each search: the best rank of each row so far, where rank = distance * number of searched columns
+    // + column order, and the rows which have a rank, so that only those have to be ranked and reset
+    private final int[] ranks;
+    private final int[] matchedRows;
+    private int matchCount;
+
+    /**
+     * Creates a table holding the given records, each of which is a row of the drug dataset.
+     */
+    public DrugTable(List<String[]> records) {
+        requireNonNull(records);
+        rowCount = records.size();
+        columns = new String[COLUMN_COUNT][rowCount];
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            Map<String, String> sharedValues = new HashMap<>();
+            for (int row = 0; row < rowCount; row++) {
+                String[] record = records.get(row);
+                String value = column < record.length ? record[column] : "";
+                columns[column][row] = sharedValues.computeIfAbsent(value, unused -> value);
+            }
+        }
+
+        searchIndexes = new TrigramIndex[SEARCHED_COLUMNS.length];
+        for (int i = 0; i < SEARCHED_COLUMNS.length; i++) {
+            String[] lowerCaseValues = new String[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                lowerCaseValues[row] = columns[SEARCHED_COLUMNS[i]][row].toLowerCase();
+            }
+            searchIndexes[i] = new TrigramIndex(lowerCaseValues);
+        }
+
+        ranks = new int[rowCount];
+        Arrays.fill(ranks, NOT_MATCHED);
+        matchedRows = new int[rowCount];
+    }
+
+    /**
+     * Returns the table of the bundled drug dataset, reading the dataset on first use.
+     *
+     * @throws IOException if the dataset cannot be read.
+     */
+    public static synchronized DrugTable getInstance() throws IOException {
+        if (instance == null) {
+            instance = new DrugTable(DrugCsvUtil.readAllEntries());
+        }
+        return instance;
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the value of {@code column} in {@code row}.
+     * Columns are numbered as in the dataset, e.g. {@link #PRODUCT_NAME}.
+     */
+    public String get(int row, int column) {
+        return columns[column][row];
+    }
+
+    /**
+     * Returns all values of {@code row}, in dataset column order.
+     */
+    public String[] getRecord(int row) {
+        String[] record = new String[COLUMN_COUNT];
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            record[column] = columns[column][row];
+        }
+        return record;
+    }
+
+    /**
+     * Returns {@code query} in the form it is searched in, which is lower case with surrounding whitespace removed
+     * and inner whitespace collapsed, so that queries differing only in these respects have the same results.
+     */
+    public static String normalizeQuery(String query) {
+        requireNonNull(query);
+        return query.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    /**
+     * Returns at most {@code limit} rows whose product name, active ingredients, ATC code or license holder
+     * contains {@code query}, allowing for typos in longer queries.
+     * Rows are ranked by the number of typos, then by the column which matched in the order listed above,
+     * then by dataset order.
+     */
+    public synchronized int[] search(String query, int limit) {
+        String normalizedQuery = normalizeQuery(query);
+        if (limit <= 0) {
+            return new int[0];
+        }
+        int maxDistance = normalizedQuery.length() <= EXACT_QUERY_LENGTH ? 0
+                : normalizedQuery.length() <= ONE_TYPO_QUERY_LENGTH ? 1 : 2;
+
+        matchCount = 0;
+        for (int i = 0; i < SEARCHED_COLUMNS.length; i++) {
+            int columnOrder = i;
+            searchIndexes[i].forEachWithin(normalizedQuery, maxDistance, (row, distance) -> {
+                if (ranks[row] == NOT_MATCHED) {
+                    matchedRows[matchCount++] = row;
+                }
+                ranks[row] = Math.min(ranks[row], distance * SEARCHED_COLUMNS.length + columnOrder);
+            });
+        }
+
+        // keeps the best matches by rank, then row, packed into longs, with the worst kept match on top
+        PriorityQueue<Long> best = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+        for (int i = 0; i < matchCount; i++) {
+            int row = matchedRows[i];
+            long match = ((long) ranks[row] << Integer.SIZE) | row;
+            ranks[row] = NOT_MATCHED;
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (match < best.peek()) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        int[] rows = new int[best.size()];
+        for (int i = rows.length - 1; i >= 0; i--) {
+            rows[i] = (int) (long) best.poll();
+        }
+        return rows;
+    }
+}
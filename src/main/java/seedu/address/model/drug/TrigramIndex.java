@@ -0,0 +1,239 @@
+package seedu.address.model.drug;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A substring index over a fixed list of strings.
+ * Every trigram (run of three characters) of each string maps to the ascending positions of the strings
+ * containing it, so that a substring query only has to check the strings which contain all of its trigrams,
+ * and an approximate query only has to check the strings which share enough trigrams with it.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int ASCII_SIZE = 128;
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final String[] values;
+    private final Map<String, int[]> postings;
+    // the number of trigrams each value shares with the current approximate query, zero between queries
+    private final int[] sharedGrams;
+
+    /**
+     * Builds the index over {@code values}. The values are matched exactly as given.
+     */
+    public TrigramIndex(String[] values) {
+        requireNonNull(values);
+        this.values = values.clone();
+        sharedGrams = new int[values.length];
+
+        Map<String, int[]> growablePostings = new HashMap<>();
+        Map<String, Integer> postingSizes = new HashMap<>();
+        for (int position = 0; position < values.length; position++) {
+            String value = values[position];
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                String gram = value.substring(i, i + GRAM_LENGTH);
+                int size = postingSizes.getOrDefault(gram, 0);
+                int[] posting = growablePostings.get(gram);
+                if (posting == null) {
+                    posting = new int[4];
+                } else if (posting[size - 1] == position) {
+                    continue; // the gram occurs more than once in this value
+                } else if (size == posting.length) {
+                    posting = Arrays.copyOf(posting, size * 2);
+                }
+                posting[size] = position;
+                growablePostings.put(gram, posting);
+                postingSizes.put(gram, size + 1);
+            }
+        }
+
+        postings = new HashMap<>();
+        for (Map.Entry<String, int[]> entry : growablePostings.entrySet()) {
+            postings.put(entry.getKey(), Arrays.copyOf(entry.getValue(), postingSizes.get(entry.getKey())));
+        }
+    }
+
+    /**
+     * Returns the positions of all values containing {@code substring}, in ascending order.
+     */
+    public int[] positionsContaining(String substring) {
+        requireNonNull(substring);
+        IntStream.Builder matches = IntStream.builder();
+        forEachContaining(substring, (position, distance) -> matches.add(position));
+        return matches.build().toArray();
+    }
+
+    /**
+     * Passes to {@code visitor} each value whose smallest edit distance between {@code query} and a substring of
+     * the value is at most {@code maxDistance}, with that distance. Values which do not match are never visited,
+     * so a query costs as much as its candidates rather than as much as the whole index.
+     * A value is only considered if it shares at least one trigram with {@code query}, so queries of fewer than
+     * three characters only match exactly.
+     */
+    public synchronized void forEachWithin(String query, int maxDistance, MatchVisitor visitor) {
+        requireNonNull(query);
+        requireNonNull(visitor);
+        if (maxDistance <= 0 || query.length() < GRAM_LENGTH) {
+            forEachContaining(query, visitor);
+            return;
+        }
+
+        // every edit of the query changes at most GRAM_LENGTH of its trigrams
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            grams.add(query.substring(i, i + GRAM_LENGTH));
+        }
+        int minSharedGrams = Math.max(1, grams.size() - GRAM_LENGTH * maxDistance);
+
+        long[] queryMasks = query.length() <= Long.SIZE ? buildCharacterMasks(query) : null;
+        try {
+            for (String gram : grams) {
+                for (int position : postings.getOrDefault(gram, NO_POSITIONS)) {
+                    if (++sharedGrams[position] != minSharedGrams) {
+                        continue;
+                    }
+                    int distance = values[position].contains(query) ? 0
+                            : queryMasks != null ? substringEditDistance(query, queryMasks, values[position])
+                            : substringEditDistance(query, values[position]);
+                    if (distance <= maxDistance) {
+                        visitor.visit(position, distance);
+                    }
+                }
+            }
+        } finally {
+            // only the counters of the values sharing a trigram with the query were touched
+            for (String gram : grams) {
+                for (int position : postings.getOrDefault(gram, NO_POSITIONS)) {
+                    sharedGrams[position] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes to {@code visitor} the position of each value containing {@code substring}, in ascending order,
+     * with a distance of 0.
+     */
+    private void forEachContaining(String substring, MatchVisitor visitor) {
+        if (substring.length() < GRAM_LENGTH) {
+            for (int position = 0; position < values.length; position++) {
+                if (values[position].contains(substring)) {
+                    visitor.visit(position, 0);
+                }
+            }
+            return;
+        }
+
+        // starts from the rarest trigram so that the candidate list is as short as possible
+        int[] candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= substring.length(); i++) {
+            int[] posting = postings.getOrDefault(substring.substring(i, i + GRAM_LENGTH), NO_POSITIONS);
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+
+        for (int position : candidates) {
+            if (values[position].contains(substring)) {
+                visitor.visit(position, 0);
+            }
+        }
+    }
+
+    /**
+     * Returns, for each ASCII character, a mask of the positions at which it occurs in {@code query}.
+     */
+    private static long[] buildCharacterMasks(String query) {
+        long[] masks = new long[ASCII_SIZE];
+        for (int i = 0; i < query.length(); i++) {
+            if (query.charAt(i) < ASCII_SIZE) {
+                masks[query.charAt(i)] |= 1L << i;
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Returns the smallest edit distance between {@code query} and any substring of {@code text}, for queries of
+     * at most 64 characters, using Myers' bit-parallel algorithm which handles one character of text per step.
+     *
+     * @param queryMasks the masks returned by {@link #buildCharacterMasks(String)} for {@code query}.
+     */
+    private static int substringEditDistance(String query, long[] queryMasks, String text) {
+        long lastBit = 1L << (query.length() - 1);
+        // bit i of positive (negative) is set if the distance increases (decreases) from row i to row i + 1
+        long positive = -1L;
+        long negative = 0L;
+        int distance = query.length();
+        int best = distance;
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            long equal = c < ASCII_SIZE ? queryMasks[c] : nonAsciiMask(query, c);
+            long vertical = equal | negative;
+            long horizontal = (((equal & positive) + positive) ^ positive) | equal;
+            long horizontalPositive = negative | ~(horizontal | positive);
+            long horizontalNegative = positive & horizontal;
+            if ((horizontalPositive & lastBit) != 0) {
+                distance++;
+            } else if ((horizontalNegative & lastBit) != 0) {
+                distance--;
+            }
+            // nothing is shifted in, as a substring may start anywhere in text
+            horizontalPositive <<= 1;
+            horizontalNegative <<= 1;
+            positive = horizontalNegative | ~(vertical | horizontalPositive);
+            negative = horizontalPositive & vertical;
+            best = Math.min(best, distance);
+        }
+        return best;
+    }
+
+    private static long nonAsciiMask(String query, char c) {
+        long mask = 0L;
+        for (int i = 0; i < query.length(); i++) {
+            if (query.charAt(i) == c) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the smallest edit distance between {@code query} and any substring of {@code text}.
+     */
+    private static int substringEditDistance(String query, String text) {
+        // column[i] is the distance between the first i characters of query and the best substring ending here
+        int[] column = new int[query.length() + 1];
+        for (int i = 0; i <= query.length(); i++) {
+            column[i] = i;
+        }
+        int best = column[query.length()];
+        for (int j = 0; j < text.length(); j++) {
+            int diagonal = column[0];
+            column[0] = 0; // a substring may start anywhere in text
+            for (int i = 1; i <= query.length(); i++) {
+                int substitution = diagonal + (query.charAt(i - 1) == text.charAt(j) ? 0 : 1);
+                diagonal = column[i];
+                column[i] = Math.min(substitution, Math.min(column[i] + 1, column[i - 1] + 1));
+            }
+            best = Math.min(best, column[query.length()]);
+        }
+        return best;
+    }
+
+    /**
+     * Receives the values matching a query.
+     */
+    @FunctionalInterface
+    public interface MatchVisitor {
+        void visit(int position, int distance);
+    }
+}
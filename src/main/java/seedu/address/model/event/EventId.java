@@ -2,63 +2,79 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.IdAllocator;
+
 /**
  * Represents a EventId for a ScheduleEvent in the calendar for patient book.
  * EventId only increases, and each event is bound to its EventId forever.
+ * An EventId is its number; the string form, such as "e12", is only formatted when it is asked for.
  */
 public class EventId {
 
     public static final String MESSAGE_EVENTID_CONSTRAINTS =
             "Event ID should start with e, followed by a sequence of integers.";
 
-    // EventId iterator
-    private static int idCounter = 0;
+    private static final IdAllocator allocator = new IdAllocator();
 
+    private static final String PREFIX = "e";
     private static final String ID_VALIDATION_REGEX = "^e[0-9]+$";
-    public final String value;
+
+    private final int number;
+    // formatted when first asked for; threads which race to format it just format equal strings
+    private String value;
 
     /**
-     * Constructs a {@code EventId}
+     * Constructs a new {@code EventId}, after all the existing ones.
      */
     public EventId() {
-        value = getNewId();
+        number = allocator.allocate();
     }
 
     /**
      * Constructs an {@code EventId} based on an existing ID.
      */
     public EventId(String value, boolean updateMinId) {
-        requireNonNull(value);
-
-        this.value = value;
-        int idValue = Integer.parseInt(value.substring(1));
-        if (idValue >= idCounter && updateMinId) {
-            idCounter = idValue + 1;
-        }
+        this(Integer.parseInt(requireNonNull(value).substring(PREFIX.length())), updateMinId);
     }
 
-    private static String getNewId() {
-        String id = "e" + Integer.toString(idCounter);
-        idCounter += 1;
-        return id;
+    /**
+     * Constructs an {@code EventId} from the number of an existing ID.
+     * If {@code updateMinId} is true, new IDs are created after this one.
+     */
+    public EventId(int number, boolean updateMinId) {
+        this.number = number;
+        if (updateMinId) {
+            allocator.reserve(number);
+        }
     }
 
     public static boolean isValidId(String test) {
         return test.matches(ID_VALIDATION_REGEX);
     }
 
+    public int getNumber() {
+        return number;
+    }
+
     @Override
     public String toString() {
-        return value;
+        String formatted = value;
+        if (formatted == null) {
+            formatted = PREFIX + number;
+            value = formatted;
+        }
+        return formatted;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EventId // instanceof handles nulls
-                && value.equals(((EventId) other).value)); // state check
+                && number == ((EventId) other).number); // state check
     }
 
     @Override
-    public int hashCode() { return value.hashCode(); }
+    public int hashCode() {
+        return Integer.hashCode(number);
+    }
 }
@@ -2,17 +2,17 @@ package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.Pair;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSetPool;
 
 
 /**
@@ -21,30 +21,22 @@ import seedu.address.model.tag.Tag;
  */
 public class ScheduleEvent {
 
-    // Standard datetime String format to be used by this application
-    public static final SimpleDateFormat SDF;
-    public static final SimpleDateFormat STORAGE_SDF;
-    public static final SimpleDateFormat TIME_SDF;
-
-    static {
-        SDF = new SimpleDateFormat("dd/MM/yyyy HH:mm - HH:mm");
-        STORAGE_SDF = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-        TIME_SDF = new SimpleDateFormat("HH:mm");
-    }
-
-    /**
-     * Enumerated Variable to represent calendar event attributes
-     */
-    private enum ScheduleEventProperty {
-        DATETIME, PERSONID, DETAILS, TAGS
-    }
-
-    private final HashMap<ScheduleEventProperty, Object> attributes;
-
+    // Standard time String format to be used by this application; dates and times are formatted by DateTimeUtil
+    public static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm")
+            .withZone(DateTimeUtil.ZONE);
 
     // Identity fields
     private final EventId id;
 
+    // Time slot, in milliseconds since the epoch
+    private final long startMillis;
+    private final long endMillis;
+
+    // Data fields
+    private final PersonId personId;
+    private final String details;
+    private final Set<Tag> tags;
+
     /**
      * Every field must be present and not null.
      */
@@ -56,15 +48,26 @@ public class ScheduleEvent {
                          PersonId personId, String details, Set<Tag> tags) {
         requireAllNonNull(eventId, date, personId, details, tags);
         this.id = eventId;
-        this.attributes = new HashMap<>();
-
-        Pair<Calendar> scheduleEventDate = new Pair<>(date.getKey(), date.getValue());
-        this.attributes.put(ScheduleEventProperty.DATETIME, scheduleEventDate);
-        this.attributes.put(ScheduleEventProperty.PERSONID, personId);
-        this.attributes.put(ScheduleEventProperty.DETAILS, details);
+        this.startMillis = date.getKey().getTimeInMillis();
+        this.endMillis = date.getValue().getTimeInMillis();
+        this.personId = personId;
+        this.details = details;
+        this.tags = TagSetPool.intern(tags);
+    }
 
-        Set<Tag> calendarEventTags = new HashSet<>(tags); // adds all tags into here
-        this.attributes.put(ScheduleEventProperty.TAGS, calendarEventTags);
+    /**
+     * Creates an event with the time slot from {@code startMillis} to {@code endMillis}, in milliseconds since
+     * the epoch, so that storage need not go through {@code Calendar}.
+     */
+    public ScheduleEvent(EventId eventId, long startMillis, long endMillis,
+                         PersonId personId, String details, Set<Tag> tags) {
+        requireAllNonNull(eventId, personId, details, tags);
+        this.id = eventId;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.personId = personId;
+        this.details = details;
+        this.tags = TagSetPool.intern(tags);
     }
 
 
@@ -72,34 +75,43 @@ public class ScheduleEvent {
         return this.id;
     }
 
+    /**
+     * Returns a copy of the time slot of this event, which the caller is free to modify.
+     */
     public Pair<Calendar> getDate() {
-        Pair<?> returnedDate = (Pair<?>) this.attributes.get(ScheduleEventProperty.DATETIME);
-        return (new Pair<>((Calendar) returnedDate.getKey(), (Calendar) returnedDate.getValue()));
+        return new Pair<>(toCalendar(startMillis), toCalendar(endMillis));
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
     }
 
     public String getDateToString() {
         StringBuilder dateBuilder = new StringBuilder();
-        dateBuilder.append(STORAGE_SDF.format(getDate().getKey().getTime()))
+        dateBuilder.append(DateTimeUtil.formatDateTime(startMillis))
                    .append(" to ")
-                   .append(TIME_SDF.format(getDate().getValue().getTime()));
+                   .append(TIME_FORMAT.format(Instant.ofEpochMilli(endMillis)));
         return dateBuilder.toString();
     }
 
     public PersonId getPersonId() {
-        return (PersonId) this.attributes.get(ScheduleEventProperty.PERSONID);
+        return personId;
     }
 
     public String getDetails() {
-        return (String) this.attributes.get(ScheduleEventProperty.DETAILS);
+        return details;
     }
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    @SuppressWarnings("unchecked")
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet((Set<Tag>) this.attributes.get(ScheduleEventProperty.TAGS));
+        return tags;
     }
 
     /**
@@ -118,21 +130,18 @@ public class ScheduleEvent {
      * Returns true if the event clashes with a given duration
      */
     public boolean isClashing(Pair<Calendar> duration) {
-        boolean isClashing = false;
-        Calendar thisStart = this.getDate().getKey();
-        Calendar thisEnd = this.getDate().getValue();
-        Calendar otherStart = duration.getKey();
-        Calendar otherEnd = duration.getValue();
-        if (thisStart.equals(otherStart)) { // if two start times are the same, they will clash definitely
-            isClashing = true;
-        }
-        if (thisStart.before(otherStart) && otherStart.before(thisEnd)) {
-            isClashing = true;
-        }
-        if (otherStart.before(thisStart) && thisStart.before(otherEnd)) {
-            isClashing = true;
-        }
-        return isClashing;
+        return isClashing(duration.getKey().getTimeInMillis(), duration.getValue().getTimeInMillis());
+    }
+
+    /**
+     * Returns true if the event clashes with the duration from {@code otherStart} to {@code otherEnd},
+     * both in milliseconds since the epoch.
+     * Two events clash if they start at the same time, or if one starts strictly within the other.
+     */
+    public boolean isClashing(long otherStart, long otherEnd) {
+        return startMillis == otherStart
+                || (startMillis < otherStart && otherStart < endMillis)
+                || (otherStart < startMillis && startMillis < otherEnd);
     }
 
     /**
@@ -167,9 +176,9 @@ public class ScheduleEvent {
                 .append(" scheduled for patient ID: ")
                 .append(getPersonId())
                 .append(" during: ")
-                .append(STORAGE_SDF.format(getDate().getKey().getTime()))
+                .append(DateTimeUtil.formatDateTime(startMillis))
                 .append(" to ")
-                .append(STORAGE_SDF.format(getDate().getValue().getTime()))
+                .append(DateTimeUtil.formatDateTime(endMillis))
                 .append("\nDetails: ")
                 .append(getDetails())
                 .append("\nTags: ");
@@ -177,4 +186,10 @@ public class ScheduleEvent {
         return builder.toString();
     }
 
+    private static Calendar toCalendar(long millis) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+
 }
@@ -2,25 +2,57 @@ package seedu.address.model.event;
 
 import java.util.function.Predicate;
 
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
- * Tests that a {@code ScheduleEvent}'s {@code Date} satisfies the constraints given.
+ * Tests that a {@code ScheduleEvent} has the event ID, is for the patient with the person ID, or has the tag
+ * given as constraints.
+ * The constraints are read once, so each event is tested by comparing IDs or looking up its tags, without
+ * comparing any strings.
  */
 public class ScheduleEventMatchesPredicate implements Predicate<ScheduleEvent> {
 
     private final String constraints;
+    private final Predicate<ScheduleEvent> matcher;
 
     /**
      * Change the argument to something which is used to match with this event.
-     * It's currently set to String
+     * It's currently set to an event ID, a person ID or a tag name.
      */
     public ScheduleEventMatchesPredicate(String constraints) {
         this.constraints = constraints;
+        this.matcher = toMatcher(constraints.trim());
+    }
+
+    /**
+     * Returns the test of an event against {@code constraints}, which matches nothing if they are none of
+     * an event ID, a person ID or a tag name.
+     */
+    private static Predicate<ScheduleEvent> toMatcher(String constraints) {
+        try {
+            if (EventId.isValidId(constraints)) {
+                EventId eventId = new EventId(constraints, false);
+                return event -> event.getId().equals(eventId);
+            }
+            if (PersonId.isValidId(constraints)) {
+                PersonId personId = new PersonId(constraints, false);
+                return event -> event.getPersonId().equals(personId);
+            }
+        } catch (NumberFormatException e) {
+            // an ID too large to be allocated, which no event has
+            return unused -> false;
+        }
+        if (Tag.isValidTagName(constraints)) {
+            Tag tag = new Tag(constraints);
+            return event -> event.getTags().contains(tag);
+        }
+        return unused -> false;
     }
 
     @Override
     public boolean test(ScheduleEvent event) {
-        return event.getId().toString().equals(constraints);
+        return matcher.test(event);
     }
 
     @Override
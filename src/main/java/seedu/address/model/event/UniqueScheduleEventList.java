@@ -1,15 +1,26 @@
 package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.exceptions.DuplicateScheduleEventException;
 import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of calendar events that enforces uniqueness between its elements and does not allow nulls.
@@ -19,7 +30,9 @@ import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
  * terms of identity in the UniqueScheduleEventList. Removal of a calendar event uses
  * ScheduleEvent#equals(Object) to ensure that the correct event is removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations, and finds an event by ID, the events within or clashing with a time
+ * range, and the events of a person or with a tag through indexes of the events by ID, start time, person and tag,
+ * without scanning the whole list.
  *
  * Developer note: Since we're using an ID-based system to distinguish between calendar events, both
  * ScheduleEvent#isSameEvent(ScheduleEvent) and ScheduleEvent#equals(Object) match the events by ID.
@@ -30,13 +43,53 @@ import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
 public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
 
     private final ObservableList<ScheduleEvent> internalList = FXCollections.observableArrayList();
+    // position of each event in internalList by EventId, kept in sync with internalList
+    private final Map<EventId, Integer> indexById = new HashMap<>();
+    // events by their start time in epoch milliseconds, each list in the order the events were added
+    private final TreeMap<Long, List<ScheduleEvent>> eventsByStart = new TreeMap<>();
+    // number of events of each duration in milliseconds, so that the longest event is known
+    private final TreeMap<Long, Integer> durationCounts = new TreeMap<>();
+    // events by the person they are for, each list in the order the events were added
+    private final Map<PersonId, List<ScheduleEvent>> eventsByPerson = new HashMap<>();
+    // events by each of their tags, each list in the order the events were added
+    private final Map<Tag, List<ScheduleEvent>> eventsByTag = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent calendar event as the given argument
      */
     public boolean contains(ScheduleEvent toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return indexById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Returns the calendar event with the given {@code eventId}.
+     *
+     * @throws ScheduleEventNotFoundException if no event in the list has the ID.
+     */
+    public ScheduleEvent getScheduleEvent(EventId eventId) {
+        requireNonNull(eventId);
+        int index = indexOf(eventId);
+        if (index == -1) {
+            throw new ScheduleEventNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the calendar events for the person with {@code personId}, in the order they were added.
+     */
+    public List<ScheduleEvent> getEventsForPerson(PersonId personId) {
+        requireNonNull(personId);
+        return new ArrayList<>(eventsByPerson.getOrDefault(personId, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the calendar events with {@code tag}, in the order they were added.
+     */
+    public List<ScheduleEvent> getEventsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return new ArrayList<>(eventsByTag.getOrDefault(tag, Collections.emptyList()));
     }
 
     /**
@@ -48,7 +101,9 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
         if (contains(toAdd)) {
             throw new DuplicateScheduleEventException();
         }
+        indexById.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
+        addToIndex(toAdd);
     }
 
     /**
@@ -60,7 +115,7 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
     public void setScheduleEvent(ScheduleEvent target, ScheduleEvent editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target.getId());
         if (index == -1) {
             throw new ScheduleEventNotFoundException();
         }
@@ -69,7 +124,11 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
             throw new DuplicateScheduleEventException();
         }
 
-        internalList.set(index, editedEvent);
+        ScheduleEvent replaced = internalList.set(index, editedEvent);
+        removeFromIndex(replaced);
+        indexById.remove(replaced.getId());
+        indexById.put(editedEvent.getId(), index);
+        addToIndex(editedEvent);
     }
 
     /**
@@ -78,14 +137,40 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
      */
     public void remove(ScheduleEvent toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove.getId());
+        if (index == -1) {
             throw new ScheduleEventNotFoundException();
         }
+        ScheduleEvent removed = internalList.remove(index);
+        removeFromIndex(removed);
+        indexById.remove(removed.getId());
+        updatePositionsFrom(index);
+    }
+
+    /**
+     * Removes all the calendar events for the person with {@code personId} from the list in a single change,
+     * and returns them in the order they were added.
+     */
+    public List<ScheduleEvent> removeAllForPerson(PersonId personId) {
+        requireNonNull(personId);
+        List<ScheduleEvent> toRemove = eventsByPerson.get(personId);
+        if (toRemove == null) {
+            return Collections.emptyList();
+        }
+        List<ScheduleEvent> removed = new ArrayList<>(toRemove);
+        internalList.removeAll(new HashSet<>(removed));
+        for (ScheduleEvent event : removed) {
+            removeFromIndex(event);
+            indexById.remove(event.getId());
+        }
+        updatePositionsFrom(0);
+        return removed;
     }
 
     public void setScheduleEvents(UniqueScheduleEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -94,11 +179,129 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
      */
     public void setScheduleEvents(List<ScheduleEvent> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateScheduleEventException();
+        List<EventId> duplicateIds = findDuplicates(events, ScheduleEvent::getId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicateScheduleEventException(duplicateIds);
         }
 
         internalList.setAll(events);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the events which start no earlier than the start of {@code range} and end no later than its end,
+     * in order of start time.
+     */
+    public List<ScheduleEvent> getEventsWithin(Pair<Calendar> range) {
+        requireNonNull(range);
+        long rangeStart = range.getKey().getTimeInMillis();
+        long rangeEnd = range.getValue().getTimeInMillis();
+        List<ScheduleEvent> events = new ArrayList<>();
+        if (rangeStart > rangeEnd) {
+            return events;
+        }
+        for (List<ScheduleEvent> sameStart : eventsByStart.subMap(rangeStart, true, rangeEnd, true).values()) {
+            for (ScheduleEvent event : sameStart) {
+                if (event.getEndMillis() <= rangeEnd) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Returns the events which clash with {@code duration}, as defined by
+     * {@code ScheduleEvent#isClashing(Pair)}, in order of start time.
+     */
+    public List<ScheduleEvent> getEventsClashingWith(Pair<Calendar> duration) {
+        requireNonNull(duration);
+        long start = duration.getKey().getTimeInMillis();
+        long end = duration.getValue().getTimeInMillis();
+        List<ScheduleEvent> events = new ArrayList<>();
+        if (eventsByStart.isEmpty()) {
+            return events;
+        }
+        // a clashing event cannot start more than the longest duration before the given one starts
+        long earliestStart = start - durationCounts.lastKey();
+        long latestStart = end;
+        if (earliestStart > latestStart) {
+            return events;
+        }
+        for (List<ScheduleEvent> sameStart : eventsByStart.subMap(earliestStart, true, latestStart, true).values()) {
+            for (ScheduleEvent event : sameStart) {
+                if (event.isClashing(start, end)) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    private void addToIndex(ScheduleEvent event) {
+        long start = event.getStartMillis();
+        long duration = Math.max(0, event.getEndMillis() - start);
+        eventsByStart.computeIfAbsent(start, unused -> new ArrayList<>(1)).add(event);
+        durationCounts.merge(duration, 1, Integer::sum);
+        eventsByPerson.computeIfAbsent(event.getPersonId(), unused -> new ArrayList<>(1)).add(event);
+        for (Tag tag : event.getTags()) {
+            eventsByTag.computeIfAbsent(tag, unused -> new ArrayList<>()).add(event);
+        }
+    }
+
+    private void removeFromIndex(ScheduleEvent event) {
+        long start = event.getStartMillis();
+        long duration = Math.max(0, event.getEndMillis() - start);
+        List<ScheduleEvent> sameStart = eventsByStart.get(start);
+        sameStart.remove(event);
+        if (sameStart.isEmpty()) {
+            eventsByStart.remove(start);
+        }
+        durationCounts.computeIfPresent(duration, (unused, count) -> count == 1 ? null : count - 1);
+        removeFromList(eventsByPerson, event.getPersonId(), event);
+        for (Tag tag : event.getTags()) {
+            removeFromList(eventsByTag, tag, event);
+        }
+    }
+
+    /**
+     * Removes {@code event} from the list of events under {@code key} in {@code index}, and the list once empty.
+     */
+    private static <K> void removeFromList(Map<K, List<ScheduleEvent>> index, K key, ScheduleEvent event) {
+        List<ScheduleEvent> events = index.get(key);
+        events.remove(event);
+        if (events.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private void rebuildIndex() {
+        eventsByStart.clear();
+        durationCounts.clear();
+        indexById.clear();
+        eventsByPerson.clear();
+        eventsByTag.clear();
+        for (ScheduleEvent event : internalList) {
+            addToIndex(event);
+        }
+        updatePositionsFrom(0);
+    }
+
+    /**
+     * Records the positions of the events in internalList from {@code from} onwards, after they have moved.
+     */
+    private void updatePositionsFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            indexById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns the position of the event with {@code eventId} in internalList, or -1 if there is none.
+     */
+    private int indexOf(EventId eventId) {
+        Integer index = indexById.get(eventId);
+        return index != null ? index : -1;
     }
 
     /**
@@ -120,18 +323,4 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
 
     @Override
     public int hashCode() { return internalList.hashCode(); }
-
-    /**
-     * Returns true if {@code events} contain only unique events.
-     */
-    private boolean eventsAreUnique(List<ScheduleEvent> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
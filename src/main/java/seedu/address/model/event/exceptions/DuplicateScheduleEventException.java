@@ -1,11 +1,22 @@
 package seedu.address.model.event.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.address.model.event.EventId;
+
 /**
  * Signals that the operation will result in duplicate Schedule Events (Schedule Events are considered
  * duplicates if they have the same identity).
  */
 public class DuplicateScheduleEventException extends RuntimeException {
     public DuplicateScheduleEventException() { super ("Operation would result in duplicate calendar event"); }
-}
-
 
+    /**
+     * @param duplicateIds the IDs shared by more than one calendar event.
+     */
+    public DuplicateScheduleEventException(Collection<EventId> duplicateIds) {
+        super("Operation would result in duplicate calendar events with IDs: "
+                + duplicateIds.stream().map(EventId::toString).collect(Collectors.joining(", ")));
+    }
+}
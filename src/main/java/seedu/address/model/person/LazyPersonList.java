@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of persons which can start out as {@link PersonRecords}, so that a person is created only when
+ * the list is asked for it, such as when a filter tests it or when a row showing it scrolls into view.
+ *
+ * The persons read most recently are cached. A person set in place of a record, or added after the records, is kept
+ * for as long as it is in the list. Adding a person among the records or removing one of them reads every record
+ * once, and from then on the list keeps all its persons like any other list.
+ */
+class LazyPersonList extends ModifiableObservableListBase<Person> {
+
+    private static final int CACHE_SIZE = 1024;
+
+    private PersonRecords records;
+    private int recordCount;
+
+    // persons set in place of records, by index
+    private final Map<Integer, Person> changed = new HashMap<>();
+    // persons after the records
+    private final List<Person> added = new ArrayList<>();
+    private final Map<Integer, Person> cache = new LinkedHashMap<Integer, Person>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Replaces the contents of this list with {@code records}.
+     */
+    void setRecords(PersonRecords records) {
+        requireNonNull(records);
+        List<Person> removed = beginReplace();
+        this.records = records;
+        recordCount = records.size();
+        endReplace(removed);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}.
+     * The records of another {@code LazyPersonList} are shared rather than read.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        List<Person> removed = beginReplace();
+        if (persons instanceof LazyPersonList) {
+            LazyPersonList other = (LazyPersonList) persons;
+            records = other.records;
+            recordCount = other.recordCount;
+            changed.putAll(other.changed);
+            added.addAll(other.added);
+        } else {
+            added.addAll(persons);
+        }
+        endReplace(removed);
+        return true;
+    }
+
+    /**
+     * Returns the index of the person with {@code personId} among the records, or -1 if no record has the ID
+     * or the person of the record was replaced by one with another ID.
+     */
+    int indexOfRecord(PersonId personId) {
+        if (recordCount == 0) {
+            return -1;
+        }
+        int index = records.indexOf(personId);
+        if (index == -1) {
+            return -1;
+        }
+        Person replacement = changed.get(index);
+        return replacement == null || replacement.getId().equals(personId) ? index : -1;
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index >= recordCount) {
+            return added.get(index - recordCount);
+        }
+        Person person = changed.get(index);
+        if (person == null) {
+            person = cache.get(index);
+        }
+        if (person == null) {
+            person = records.get(index);
+            cache.put(index, person);
+        }
+        return person;
+    }
+
+    @Override
+    public int size() {
+        return recordCount + added.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        if (index < recordCount) {
+            readAllRecords();
+        }
+        added.add(index - recordCount, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        if (index >= recordCount) {
+            return added.set(index - recordCount, element);
+        }
+        Person old = get(index);
+        changed.put(index, element);
+        cache.remove(index);
+        return old;
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        if (index < recordCount) {
+            readAllRecords();
+        }
+        return added.remove(index - recordCount);
+    }
+
+    /**
+     * Replaces the records with the persons they hold, so that persons can be added among or removed from them.
+     */
+    private void readAllRecords() {
+        List<Person> persons = new ArrayList<>(this);
+        clearContents();
+        added.addAll(persons);
+    }
+
+    /**
+     * Empties this list as the first step of replacing its contents, and returns the persons removed.
+     * Only when there are listeners to tell about them are the removed persons read.
+     */
+    private List<Person> beginReplace() {
+        List<Person> removed = hasListeners() ? new ArrayList<>(this) : Collections.emptyList();
+        beginChange();
+        clearContents();
+        return removed;
+    }
+
+    private void endReplace(List<Person> removed) {
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    private void clearContents() {
+        records = null;
+        recordCount = 0;
+        changed.clear();
+        added.clear();
+        cache.clear();
+    }
+}
@@ -2,14 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSetPool;
 
 /**
  * Represents a Person in the address book.
@@ -17,28 +15,16 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
-    /**
-     * Enumerated Variable to represent person attributes
-     */
-    private enum PersonProperty {
-        NAME, PHONE, EMAIL, ADDRESS, TAGS
-    }
-
-    private final HashMap<PersonProperty, Object> attributes;
-    private boolean exists;
-
     // Identity fields
     private final PersonId id;
-
-    /*
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    */
+    private final Set<Tag> tags;
+    private boolean exists;
 
     /**
      * Every field must be present and not null.
@@ -48,15 +34,12 @@ public class Person {
                   Address address, boolean exists, Set<Tag> tags) {
         requireAllNonNull(personId, name, phone, email, address, tags);
         this.id = personId;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = TagSetPool.intern(tags);
         this.exists = exists;
-        this.attributes = new HashMap<>();
-        this.attributes.put(PersonProperty.NAME, name);
-        this.attributes.put(PersonProperty.PHONE, phone);
-        this.attributes.put(PersonProperty.EMAIL, email);
-        this.attributes.put(PersonProperty.ADDRESS, address);
-
-        Set<Tag> personTags = new HashSet<>(tags); // adds all tags into here
-        this.attributes.put(PersonProperty.TAGS, personTags);
     }
 
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
@@ -73,28 +56,27 @@ public class Person {
     }
 
     public Name getName() {
-        return (Name) this.attributes.get(PersonProperty.NAME);
+        return name;
     }
 
     public Phone getPhone() {
-        return (Phone) this.attributes.get(PersonProperty.PHONE);
+        return phone;
     }
 
     public Email getEmail() {
-        return (Email) this.attributes.get(PersonProperty.EMAIL);
+        return email;
     }
 
     public Address getAddress() {
-        return (Address) this.attributes.get(PersonProperty.ADDRESS);
+        return address;
     }
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    @SuppressWarnings("unchecked")
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet((Set<Tag>) this.attributes.get(PersonProperty.TAGS));
+        return tags;
     }
 
     /**
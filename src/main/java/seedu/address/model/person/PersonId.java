@@ -1,59 +1,76 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.IdAllocator;
+
 /**
  * Represents a Person's PersonId in the address book.
  * PersonId only increases, and a person is bound to their PersonId forever.
+ * A PersonId is its number; the string form, such as "p12", is only formatted when it is asked for.
  */
 public class PersonId {
 
     public static final String MESSAGE_PERSONID_CONSTRAINTS =
             "Person ID should start with p, followed by a sequence of integers.";
 
-    // PersonId iterator
-    private static int idCounter = 0;
+    private static final IdAllocator allocator = new IdAllocator();
 
+    private static final String PREFIX = "p";
     private static final String ID_VALIDATION_REGEX = "^p[0-9]+$";
-    public final String value;
+
+    private final int number;
+    // formatted when first asked for; threads which race to format it just format equal strings
+    private String value;
 
     /**
-     * Constructs a {@code PersonId}.
+     * Constructs a new {@code PersonId}, after all the existing ones.
      */
     public PersonId() {
-        value = getNewId();
+        number = allocator.allocate();
     }
 
     /**
      * Constructs a {@code PersonId} from an existing ID.
      */
     public PersonId(String value, boolean changeMinId) {
-        requireNonNull(value);
-
-        this.value = value;
-        int idValue = Integer.parseInt(value.substring(1));
-        if (idValue >= idCounter && changeMinId) {
-            idCounter = idValue + 1;
-        }
+        this(Integer.parseInt(requireNonNull(value).substring(PREFIX.length())), changeMinId);
     }
 
-    private static String getNewId() {
-        String id = "p" + Integer.toString(idCounter);
-        idCounter += 1;
-        return id;
+    /**
+     * Constructs a {@code PersonId} from the number of an existing ID.
+     * If {@code changeMinId} is true, new IDs are created after this one.
+     */
+    public PersonId(int number, boolean changeMinId) {
+        this.number = number;
+        if (changeMinId) {
+            allocator.reserve(number);
+        }
     }
 
     public static boolean isValidId(String test) { return test.matches(ID_VALIDATION_REGEX); }
 
+    public int getNumber() {
+        return number;
+    }
+
     @Override
-    public String toString() { return value; }
+    public String toString() {
+        String formatted = value;
+        if (formatted == null) {
+            formatted = PREFIX + number;
+            value = formatted;
+        }
+        return formatted;
+    }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PersonId // instanceof handles nulls
-                && value.equals(((PersonId) other).value)); // state check
+                && number == ((PersonId) other).number); // state check
     }
 
     @Override
-    public int hashCode() { return value.hashCode(); }
+    public int hashCode() { return Integer.hashCode(number); }
 }
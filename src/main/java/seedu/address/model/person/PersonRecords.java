@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+/**
+ * A read-only sequence of persons kept outside the heap, such as the records of a file, which creates a
+ * {@code Person} only when one is asked for.
+ */
+public interface PersonRecords {
+
+    /**
+     * Returns the number of records.
+     */
+    int size();
+
+    /**
+     * Creates the person of the record at {@code index}.
+     * Each call creates a new {@code Person}, so callers should keep the persons which they need again.
+     */
+    Person get(int index);
+
+    /**
+     * Returns the index of the record of the person with {@code personId}, or -1 if there is none,
+     * without creating any person.
+     */
+    int indexOf(PersonId personId);
+}
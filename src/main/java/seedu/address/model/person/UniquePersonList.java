@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -27,11 +29,18 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * Important: Soft-delete is used to remove person object, but the entire list, including deleted persons are returned
  * when requesting for the list of Persons. Therefore, it is important to omit deleted persons when printing the list.
  *
+ * The list can also be backed by {@link PersonRecords}, such as the records of a file, in which case a person is only
+ * created when it is asked for.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final LazyPersonList internalList = new LazyPersonList();
+
+    // position of each person in internalList by PersonId, kept in sync with internalList, except for the persons
+    // still read from records, which are looked up in the records instead
+    private final HashMap<PersonId, Integer> indexById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -39,8 +48,7 @@ public class UniquePersonList implements Iterable<Person> {
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
 
-        int index = internalList.indexOf(toCheck);
-        return index != -1;
+        return indexOf(toCheck.getId()) != -1;
         /*
         if (index == -1) {
             return false;
@@ -59,9 +67,24 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexById.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Returns the person with the given {@code personId}, including a deleted person.
+     *
+     * @throws PersonNotFoundException if no person in the list has the ID.
+     */
+    public Person getPerson(PersonId personId) {
+        requireNonNull(personId);
+        int index = indexOf(personId);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -70,7 +93,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target.getId());
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -79,6 +102,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        indexById.remove(target.getId());
+        indexById.put(editedPerson.getId(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -91,19 +116,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        int index = internalList.indexOf(toRemove);
+        int index = indexOf(toRemove.getId());
         // if person doesn't exist or already deleted previously
         if (index == -1 || !internalList.get(index).getExists()) {
             throw new PersonNotFoundException();
         } else {
-            // performs soft delete: simply set as non-existent
-            internalList.get(index).delete();
+            // performs soft delete: simply set as non-existent, then set the person back so that a person read
+            // from records keeps the change, and listeners learn of it
+            Person person = internalList.get(index);
+            person.delete();
+            internalList.set(index, person);
         }
 
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        indexById.clear();
+        indexById.putAll(replacement.indexById);
         internalList.setAll(replacement.internalList);
     }
 
@@ -113,13 +143,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<PersonId> duplicateIds = findDuplicates(persons, Person::getId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIds);
         }
 
+        indexById.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            indexById.put(persons.get(i).getId(), i);
+        }
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the contents of this list with the persons of {@code records}, which must not contain duplicate
+     * persons. No person is created until it is asked for.
+     */
+    public void setPersons(PersonRecords records) {
+        requireNonNull(records);
+        indexById.clear();
+        internalList.setRecords(records);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -128,6 +173,25 @@ public class UniquePersonList implements Iterable<Person> {
         // return internalList;
     }
 
+    /**
+     * Returns an unmodifiable copy of the list as it is now, which later changes to this list do not affect.
+     * The records backing this list are shared rather than read, so only the persons set in place of them or
+     * added after them are copied.
+     */
+    public ObservableList<Person> copyAsUnmodifiableObservableList() {
+        LazyPersonList copy = new LazyPersonList();
+        copy.setAll(internalList);
+        return FXCollections.unmodifiableObservableList(copy);
+    }
+
+    /**
+     * Returns the position of the person with {@code personId} in internalList, or -1 if there is none.
+     */
+    private int indexOf(PersonId personId) {
+        Integer index = indexById.get(personId);
+        return index != null ? index : internalList.indexOfRecord(personId);
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -144,18 +208,4 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code persons} contain only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
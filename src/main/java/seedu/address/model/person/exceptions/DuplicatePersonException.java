@@ -1,5 +1,10 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.PersonId;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,12 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * @param duplicateIds the IDs shared by more than one person.
+     */
+    public DuplicatePersonException(Collection<PersonId> duplicateIds) {
+        super("Operation would result in duplicate persons with IDs: "
+                + duplicateIds.stream().map(PersonId::toString).collect(Collectors.joining(", ")));
+    }
 }
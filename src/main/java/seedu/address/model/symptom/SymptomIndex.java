@@ -0,0 +1,177 @@
+package seedu.address.model.symptom;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An inverted index from symptoms to the diseases which list them.
+ * Symptoms and diseases are interned to dense integer ids, so that each symptom maps to a {@code BitSet} of disease
+ * ids and queries never compare {@code Symptom} or {@code Disease} objects beyond the initial id lookup.
+ */
+public class SymptomIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final HashMap<Symptom, Integer> symptomIds = new HashMap<>();
+    private final List<BitSet> postings = new ArrayList<>();
+    private final List<Disease> diseases = new ArrayList<>();
+
+    // number of symptoms of each disease, indexed by disease id
+    private int[] symptomCounts = new int[INITIAL_CAPACITY];
+
+    // scratch space of rankDiseases, reused across queries: the number of given symptoms listed by each disease
+    // and its score, indexed by disease id, and the ids of the diseases counted, whose overlaps are reset to 0
+    private int[] overlaps = new int[INITIAL_CAPACITY];
+    private double[] scores = new double[INITIAL_CAPACITY];
+    private int[] candidateIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * Adds a disease and its symptoms to the index.
+     * The disease must not already be in the index.
+     */
+    public synchronized void addDisease(Disease disease, Set<Symptom> symptoms) {
+        requireNonNull(disease);
+        requireAllNonNull(symptoms);
+        int diseaseId = diseases.size();
+        diseases.add(disease);
+        if (diseaseId == symptomCounts.length) {
+            symptomCounts = Arrays.copyOf(symptomCounts, diseaseId * 2);
+            overlaps = Arrays.copyOf(overlaps, diseaseId * 2);
+            scores = Arrays.copyOf(scores, diseaseId * 2);
+            candidateIds = Arrays.copyOf(candidateIds, diseaseId * 2);
+        }
+        symptomCounts[diseaseId] = symptoms.size();
+        for (Symptom symptom : symptoms) {
+            postings.get(internSymptom(symptom)).set(diseaseId);
+        }
+    }
+
+    /**
+     * Returns the diseases which list every one of the given symptoms, in no particular order.
+     * Every disease is returned if {@code symptoms} is empty.
+     * The postings are intersected from the rarest symptom up, starting from a copy of the smallest one, so that
+     * the intersection never grows past the diseases listing the rarest symptom.
+     */
+    public List<Disease> findDiseasesWithAll(Set<Symptom> symptoms) {
+        requireAllNonNull(symptoms);
+        if (symptoms.isEmpty()) {
+            return new ArrayList<>(diseases);
+        }
+
+        List<BitSet> symptomPostings = new ArrayList<>(symptoms.size());
+        for (Symptom symptom : symptoms) {
+            Integer symptomId = symptomIds.get(symptom);
+            if (symptomId == null) {
+                return new ArrayList<>();
+            }
+            symptomPostings.add(postings.get(symptomId));
+        }
+        symptomPostings.sort(Comparator.comparingInt(BitSet::cardinality));
+
+        BitSet matches = (BitSet) symptomPostings.get(0).clone();
+        for (int i = 1; i < symptomPostings.size() && !matches.isEmpty(); i++) {
+            matches.and(symptomPostings.get(i));
+        }
+        return toDiseases(matches);
+    }
+
+    /**
+     * Returns at most {@code limit} diseases which share at least one symptom with {@code symptoms}, ordered by
+     * decreasing Jaccard similarity between the two symptom sets. Ties are broken by the name of the disease.
+     * Only the diseases listing one of the given symptoms are counted and scored, in arrays reused across queries,
+     * so a query costs as much as the postings of its symptoms rather than the number of diseases, and the best
+     * {@code limit} of them are kept in a bounded heap instead of sorting every candidate.
+     */
+    public synchronized List<Disease> rankDiseases(Set<Symptom> symptoms, int limit) {
+        requireAllNonNull(symptoms);
+        if (limit <= 0 || symptoms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int candidateCount = 0;
+        for (Symptom symptom : symptoms) {
+            Integer symptomId = symptomIds.get(symptom);
+            if (symptomId == null) {
+                continue;
+            }
+            BitSet posting = postings.get(symptomId);
+            for (int id = posting.nextSetBit(0); id >= 0; id = posting.nextSetBit(id + 1)) {
+                if (overlaps[id]++ == 0) {
+                    candidateIds[candidateCount++] = id;
+                }
+            }
+        }
+
+        // unknown symptoms still count towards the size of the union
+        int querySize = symptoms.size();
+        for (int i = 0; i < candidateCount; i++) {
+            int id = candidateIds[i];
+            scores[id] = jaccardSimilarity(overlaps[id], symptomCounts[id], querySize);
+            overlaps[id] = 0;
+        }
+
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, this::compareCandidates);
+        for (int i = 0; i < candidateCount; i++) {
+            int id = candidateIds[i];
+            if (best.size() < limit) {
+                best.add(id);
+            } else if (compareCandidates(id, best.peek()) > 0) {
+                best.poll();
+                best.add(id);
+            }
+        }
+
+        Disease[] ranked = new Disease[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = diseases.get(best.poll());
+        }
+        return new ArrayList<>(Arrays.asList(ranked));
+    }
+
+    /**
+     * Compares the scored diseases with ids {@code id} and {@code otherId}, the better ranked one being greater:
+     * the one with the higher score, or else the one whose name comes first.
+     */
+    private int compareCandidates(int id, int otherId) {
+        int byScore = Double.compare(scores[id], scores[otherId]);
+        return byScore != 0 ? byScore : diseases.get(otherId).toString().compareTo(diseases.get(id).toString());
+    }
+
+    /**
+     * Returns the Jaccard similarity of a disease listing {@code diseaseSize} symptoms and a query of
+     * {@code querySize} symptoms, of which {@code overlap} are listed by both.
+     */
+    private static double jaccardSimilarity(int overlap, int diseaseSize, int querySize) {
+        return (double) overlap / (diseaseSize + querySize - overlap);
+    }
+
+    /**
+     * Returns the id of {@code symptom}, assigning it the next free id if it has not been seen before.
+     */
+    private int internSymptom(Symptom symptom) {
+        Integer symptomId = symptomIds.get(symptom);
+        if (symptomId == null) {
+            symptomId = postings.size();
+            symptomIds.put(symptom, symptomId);
+            postings.add(new BitSet());
+        }
+        return symptomId;
+    }
+
+    private List<Disease> toDiseases(BitSet diseaseIds) {
+        List<Disease> result = new ArrayList<>(diseaseIds.cardinality());
+        for (int id = diseaseIds.nextSetBit(0); id >= 0; id = diseaseIds.nextSetBit(id + 1)) {
+            result.add(diseases.get(id));
+        }
+        return result;
+    }
+}
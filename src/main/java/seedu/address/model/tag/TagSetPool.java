@@ -0,0 +1,44 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of immutable tag sets, so that persons and events with the same tags share one set.
+ * Few distinct combinations of tags are in use at any time, so most records need no set of their own.
+ * Sets no longer referenced outside the pool are reclaimed by the garbage collector.
+ */
+public class TagSetPool {
+
+    // unlike Collections.emptySet(), rejects every attempt at modification, as the other pooled sets do
+    private static final Set<Tag> EMPTY_SET = Collections.unmodifiableSet(new HashSet<>());
+
+    private static final Map<Set<Tag>, WeakReference<Set<Tag>>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns an unmodifiable set equal to {@code tags}, which is the same instance for all equal sets
+     * that are in use.
+     */
+    public static Set<Tag> intern(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        if (tags.isEmpty()) {
+            return EMPTY_SET;
+        }
+
+        synchronized (pool) {
+            WeakReference<Set<Tag>> pooledReference = pool.get(tags);
+            Set<Tag> pooled = pooledReference == null ? null : pooledReference.get();
+            if (pooled == null) {
+                pooled = Collections.unmodifiableSet(new HashSet<>(tags));
+                pool.put(pooled, new WeakReference<>(pooled));
+            }
+            return pooled;
+        }
+    }
+}
@@ -0,0 +1,637 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonRecords;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores addressbook data in a compact binary file.
+ *
+ * A file starts with a magic number, which tells address books and schedules apart, and the version of the
+ * format. Then comes a table of the strings which records tend to share, which are names and tags, so that each
+ * is written once and records refer to it by its index in the table. The records come last.
+ * Whole numbers are written as varints, IDs as their number alone, and times as minutes since the epoch,
+ * which is as precise as the xml files are.
+ *
+ * Since version 2, an address book file ends with an index of fixed size numbers: the position in the file of each
+ * record, then the IDs of the persons in ascending order, then the position in the list of the person with each of
+ * those IDs, then the position in the file of each string of the table, and last the number of strings, the number
+ * of persons and the position in the file of the index itself. With the index, a person can be read from a mapping
+ * of the file into memory without reading anything else first, see {@link #mapAddressBookFile(Path)}.
+ */
+public class BinaryFileStorage {
+
+    /** The version of the format written. Files of this or any earlier version can be read. */
+    public static final int VERSION = 2;
+
+    private static final int ADDRESS_BOOK_MAGIC = 0x50424B41;
+    private static final int SCHEDULE_MAGIC = 0x50424B53;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    // keep corrupted counts and lengths from allocating huge arrays up front
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+    private static final int MAX_STRING_LENGTH = 1 << 24;
+    // the first version whose address book files end with an index
+    private static final int INDEXED_VERSION = 2;
+    private static final int INDEX_TRAILER_SIZE = 3 * Integer.BYTES;
+
+    /**
+     * Returns true if {@code file} starts like a file saved by this class, rather than like an xml file.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int magic = in.readInt();
+            return magic == ADDRESS_BOOK_MAGIC || magic == SCHEDULE_MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Saves the given addressbook data to the specified file.
+     */
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> table = new LinkedHashMap<>();
+        for (Person person : persons) {
+            addToTable(table, person.getName().fullName);
+            person.getTags().forEach(tag -> addToTable(table, tag.tagName));
+        }
+
+        FileUtil.writeAtomically(file, tempFile -> {
+            try (DataOutputStream out = openOutput(tempFile)) {
+                int[] tablePositions = writeHeader(out, ADDRESS_BOOK_MAGIC, table);
+                writeVarLong(out, persons.size());
+                int[] recordPositions = new int[persons.size()];
+                // the ID of each person in the high half, and its position in the list in the low half
+                long[] idsAndIndexes = new long[persons.size()];
+                int index = 0;
+                for (Person person : persons) {
+                    int id = person.getId().getNumber();
+                    recordPositions[index] = out.size();
+                    idsAndIndexes[index] = (long) id << Integer.SIZE | index;
+                    index++;
+                    writeVarLong(out, id);
+                    writeVarLong(out, table.get(person.getName().fullName));
+                    writeString(out, person.getPhone().value);
+                    writeString(out, person.getEmail().value);
+                    writeString(out, person.getAddress().value);
+                    out.writeBoolean(person.getExists());
+                    writeTags(out, person.getTags(), table);
+                }
+                writeAddressBookIndex(out, recordPositions, idsAndIndexes, tablePositions);
+            }
+        });
+    }
+
+    /**
+     * Returns the address book in the file.
+     *
+     * @throws DataConversionException if the file is not an address book in this format, or its data is invalid.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException, IOException {
+        try (DataInputStream in = openInput(file)) {
+            readVersion(in, ADDRESS_BOOK_MAGIC);
+            StringTable table = new LoadedStringTable(in);
+
+            int count = readCount(in);
+            List<Person> persons = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < count; i++) {
+                persons.add(readPerson(in, table));
+            }
+            return XmlSerializableAddressBook.createAddressBook(persons);
+        } catch (EOFException | IllegalArgumentException | IllegalValueException e) {
+            // the constructors of the fields reject invalid values with IllegalArgumentException
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the address book in the file, whose persons are only read from a mapping of the file into memory when
+     * they are asked for, so that neither the time taken to open the file nor the heap used grows with the number of
+     * persons in it. A file of a version without an index is read in full, like {@link #loadAddressBookFromSaveFile}.
+     *
+     * The mapping stays in use for as long as the address book does, so the file must not be changed in place;
+     * saving the address book replaces the file with a new one, which leaves the mapped one as it was.
+     *
+     * @throws DataConversionException if the file is not an address book in this format, or its index is invalid.
+     */
+    public static AddressBook mapAddressBookFile(Path file) throws DataConversionException, IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(
+                        new IllegalValueException("The file is too large to be mapped into memory."));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new BufferInputStream(buffer.duplicate()));
+            if (readVersion(in, ADDRESS_BOOK_MAGIC) < INDEXED_VERSION) {
+                return loadAddressBookFromSaveFile(file);
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(new MappedPersonRecords(buffer));
+            return addressBook;
+        } catch (EOFException | IllegalArgumentException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves the given schedule to the specified file.
+     */
+    public static void saveScheduleToFile(Path file, ReadOnlySchedule schedule) throws IOException {
+        List<ScheduleEvent> events = schedule.getAllEventList();
+        Map<String, Integer> table = new LinkedHashMap<>();
+        for (ScheduleEvent event : events) {
+            event.getTags().forEach(tag -> addToTable(table, tag.tagName));
+        }
+
+        FileUtil.writeAtomically(file, tempFile -> {
+            try (DataOutputStream out = openOutput(tempFile)) {
+                writeHeader(out, SCHEDULE_MAGIC, table);
+                writeVarLong(out, events.size());
+                for (ScheduleEvent event : events) {
+                    long startMinute = Math.floorDiv(event.getStartMillis(), MILLIS_PER_MINUTE);
+                    long endMinute = Math.floorDiv(event.getEndMillis(), MILLIS_PER_MINUTE);
+                    writeVarLong(out, event.getId().getNumber());
+                    writeVarLong(out, event.getPersonId().getNumber());
+                    writeSignedVarLong(out, startMinute);
+                    writeSignedVarLong(out, endMinute - startMinute);
+                    writeString(out, event.getDetails());
+                    writeTags(out, event.getTags(), table);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the schedule in the file.
+     *
+     * @throws DataConversionException if the file is not a schedule in this format, or its data is invalid.
+     */
+    public static Schedule loadScheduleFromSaveFile(Path file) throws DataConversionException, IOException {
+        try (DataInputStream in = openInput(file)) {
+            readVersion(in, SCHEDULE_MAGIC);
+            StringTable table = new LoadedStringTable(in);
+
+            int count = readCount(in);
+            List<ScheduleEvent> events = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < count; i++) {
+                EventId id = new EventId(readIdNumber(in), true);
+                PersonId personId = new PersonId(readIdNumber(in), false);
+                long startMinute = readSignedVarLong(in);
+                long endMinute = startMinute + readSignedVarLong(in);
+                String details = readString(in);
+                events.add(new ScheduleEvent(id, startMinute * MILLIS_PER_MINUTE, endMinute * MILLIS_PER_MINUTE,
+                        personId, details, readTags(in, table)));
+            }
+            return XmlSerializableSchedule.createSchedule(events);
+        } catch (EOFException | IllegalArgumentException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static DataOutputStream openOutput(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    }
+
+    private static DataInputStream openInput(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+    }
+
+    private static void addToTable(Map<String, Integer> table, String string) {
+        table.putIfAbsent(string, table.size());
+    }
+
+    /**
+     * Writes the start of a file, and returns the position in the file of each string of the table.
+     */
+    private static int[] writeHeader(DataOutputStream out, int magic, Map<String, Integer> table)
+            throws IOException {
+        out.writeInt(magic);
+        writeVarLong(out, VERSION);
+        writeVarLong(out, table.size());
+        int[] positions = new int[table.size()];
+        int index = 0;
+        for (String string : table.keySet()) {
+            positions[index++] = out.size();
+            writeString(out, string);
+        }
+        return positions;
+    }
+
+    /**
+     * Reads the start of a file written by {@link #writeHeader} up to the string table, and returns the version
+     * of the format of the file.
+     */
+    private static long readVersion(DataInputStream in, int magic) throws IOException, IllegalValueException {
+        if (in.readInt() != magic) {
+            throw new IllegalValueException("The file is not of the expected type.");
+        }
+        long version = readVarLong(in);
+        if (version > VERSION) {
+            throw new IllegalValueException("The file was written in a newer version " + version + " of the format.");
+        }
+        return version;
+    }
+
+    /**
+     * Reads a person written by {@link #saveAddressBookToFile}.
+     */
+    private static Person readPerson(DataInputStream in, StringTable table)
+            throws IOException, IllegalValueException {
+        PersonId id = new PersonId(readIdNumber(in), true);
+        Name name = table.getName(table.readIndex(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        boolean exists = in.readBoolean();
+        return new Person(id, name, phone, email, address, exists, readTags(in, table));
+    }
+
+    /**
+     * Writes the index which ends an address book file, given the position in the file of each record, the ID and
+     * position in the list of each person as written by {@link #saveAddressBookToFile}, and the position in the file
+     * of each string of the table.
+     */
+    private static void writeAddressBookIndex(DataOutputStream out, int[] recordPositions, long[] idsAndIndexes,
+            int[] tablePositions) throws IOException {
+        int indexPosition = out.size();
+        for (int position : recordPositions) {
+            out.writeInt(position);
+        }
+        Arrays.sort(idsAndIndexes);
+        for (long idAndIndex : idsAndIndexes) {
+            out.writeInt((int) (idAndIndex >>> Integer.SIZE));
+        }
+        for (long idAndIndex : idsAndIndexes) {
+            out.writeInt((int) idAndIndex);
+        }
+        for (int position : tablePositions) {
+            out.writeInt(position);
+        }
+        out.writeInt(tablePositions.length);
+        out.writeInt(recordPositions.length);
+        // the size of the stream stops counting at Integer.MAX_VALUE, after which the positions would be wrong
+        if (out.size() > Integer.MAX_VALUE - Integer.BYTES) {
+            throw new IOException("The address book is too large to be saved in this format.");
+        }
+        out.writeInt(indexPosition);
+    }
+
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, Map<String, Integer> table)
+            throws IOException {
+        writeVarLong(out, tags.size());
+        for (Tag tag : tags) {
+            writeVarLong(out, table.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads the tags written by {@link #writeTags}.
+     */
+    private static Set<Tag> readTags(DataInputStream in, StringTable table)
+            throws IOException, IllegalValueException {
+        int count = readCount(in);
+        Set<Tag> readTags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            readTags.add(table.getTag(table.readIndex(in)));
+        }
+        return readTags;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = readCount(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IllegalValueException("String length " + length + " is out of range.");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of an ID, which must fit in an {@code int}.
+     */
+    private static int readIdNumber(DataInputStream in) throws IOException, IllegalValueException {
+        long number = readVarLong(in);
+        if (number > Integer.MAX_VALUE) {
+            throw new IllegalValueException("ID number " + number + " is out of range.");
+        }
+        return (int) number;
+    }
+
+    /**
+     * Writes a non-negative number in as few bytes as it needs, seven bits per byte, lowest bits first.
+     * The highest bit of a byte is set when more bytes follow.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException, IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException("Malformed varint.");
+    }
+
+    /**
+     * Writes a number which may be negative, zigzag encoded so that small negative numbers stay short.
+     */
+    private static void writeSignedVarLong(DataOutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readSignedVarLong(DataInputStream in) throws IOException, IllegalValueException {
+        long encoded = readVarLong(in);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    /**
+     * Reads a count of elements or bytes, which must fit in an array.
+     */
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE - 8) {
+            throw new IllegalValueException("Count " + count + " is out of range.");
+        }
+        return (int) count;
+    }
+
+    /**
+     * The string table of a file, and the names and tags made of its strings.
+     */
+    private abstract static class StringTable {
+        abstract int size();
+
+        abstract Name getName(int index) throws IOException, IllegalValueException;
+
+        abstract Tag getTag(int index) throws IOException, IllegalValueException;
+
+        /**
+         * Reads the index of a string of this table.
+         */
+        int readIndex(DataInputStream in) throws IOException, IllegalValueException {
+            long index = readVarLong(in);
+            if (index >= size()) {
+                throw new IllegalValueException("String table index " + index + " is out of range.");
+            }
+            return (int) index;
+        }
+    }
+
+    /**
+     * A string table read in full, in which each name and tag is created once, and shared by all the records
+     * which have it.
+     */
+    private static class LoadedStringTable extends StringTable {
+        private final String[] strings;
+        private final Name[] names;
+        private final Tag[] tags;
+
+        LoadedStringTable(DataInputStream in) throws IOException, IllegalValueException {
+            strings = new String[readCount(in)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(in);
+            }
+            names = new Name[strings.length];
+            tags = new Tag[strings.length];
+        }
+
+        @Override
+        int size() {
+            return strings.length;
+        }
+
+        @Override
+        Name getName(int index) {
+            if (names[index] == null) {
+                names[index] = new Name(strings[index]);
+            }
+            return names[index];
+        }
+
+        @Override
+        Tag getTag(int index) {
+            if (tags[index] == null) {
+                tags[index] = new Tag(strings[index]);
+            }
+            return tags[index];
+        }
+    }
+
+    /**
+     * A string table left in a mapped file, whose strings are read when they are needed. Only the tags are kept
+     * once created, as there are few of them, while most persons have a name of their own.
+     */
+    private static class MappedStringTable extends StringTable {
+        private final ByteBuffer buffer;
+        private final int positionsPosition;
+        private final int size;
+        private final Map<Integer, Tag> tags = new ConcurrentHashMap<>();
+
+        MappedStringTable(ByteBuffer buffer, int positionsPosition, int size) {
+            this.buffer = buffer;
+            this.positionsPosition = positionsPosition;
+            this.size = size;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        Name getName(int index) throws IOException, IllegalValueException {
+            return new Name(readString(index));
+        }
+
+        @Override
+        Tag getTag(int index) throws IOException, IllegalValueException {
+            Tag tag = tags.get(index);
+            if (tag == null) {
+                tag = new Tag(readString(index));
+                tags.putIfAbsent(index, tag);
+            }
+            return tag;
+        }
+
+        private String readString(int index) throws IOException, IllegalValueException {
+            ByteBuffer string = buffer.duplicate();
+            string.position(buffer.getInt(positionsPosition + index * Integer.BYTES));
+            return BinaryFileStorage.readString(new DataInputStream(new BufferInputStream(string)));
+        }
+    }
+
+    /**
+     * The persons of an address book file mapped into memory, which are found through the index at the end of the
+     * file. Persons may be read from more than one thread.
+     */
+    private static class MappedPersonRecords implements PersonRecords {
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int indexPosition;
+        private final int idsPosition;
+        private final int listIndexesPosition;
+        private final StringTable table;
+
+        /**
+         * Checks the index at the end of the file, without reading any record.
+         */
+        MappedPersonRecords(ByteBuffer buffer) throws IllegalValueException {
+            this.buffer = buffer;
+            int trailerPosition = buffer.limit() - INDEX_TRAILER_SIZE;
+            if (trailerPosition < 0) {
+                throw new IllegalValueException("The index of the file is invalid.");
+            }
+            int tableSize = buffer.getInt(trailerPosition);
+            count = buffer.getInt(trailerPosition + Integer.BYTES);
+            indexPosition = buffer.getInt(trailerPosition + 2 * Integer.BYTES);
+            if (tableSize < 0 || count < 0 || indexPosition < 0
+                    || indexPosition + (3L * count + tableSize) * Integer.BYTES != trailerPosition) {
+                throw new IllegalValueException("The index of the file is invalid.");
+            }
+            idsPosition = indexPosition + count * Integer.BYTES;
+            listIndexesPosition = idsPosition + count * Integer.BYTES;
+            table = new MappedStringTable(buffer, listIndexesPosition + count * Integer.BYTES, tableSize);
+
+            // looking up IDs needs them in ascending order, which also rules out duplicate persons
+            int previousId = -1;
+            for (int i = 0; i < count; i++) {
+                int id = buffer.getInt(idsPosition + i * Integer.BYTES);
+                int listIndex = buffer.getInt(listIndexesPosition + i * Integer.BYTES);
+                if (id <= previousId || listIndex < 0 || listIndex >= count) {
+                    throw new IllegalValueException("The index of the file is invalid.");
+                }
+                previousId = id;
+            }
+            if (count > 0) {
+                // persons created from now on get IDs after those of the persons which are not read yet
+                new PersonId(previousId, true);
+            }
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            try {
+                ByteBuffer record = buffer.duplicate();
+                record.limit(indexPosition);
+                record.position(buffer.getInt(indexPosition + index * Integer.BYTES));
+                return readPerson(new DataInputStream(new BufferInputStream(record)), table);
+            } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException | IllegalValueException e) {
+                // the index was checked when the file was opened, so only a corrupted record gets here
+                throw new IllegalStateException("Person " + index + " of the address book file is invalid.", e);
+            }
+        }
+
+        @Override
+        public int indexOf(PersonId personId) {
+            int id = personId.getNumber();
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleId = buffer.getInt(idsPosition + middle * Integer.BYTES);
+                if (middleId < id) {
+                    low = middle + 1;
+                } else if (middleId > id) {
+                    high = middle - 1;
+                } else {
+                    return buffer.getInt(listIndexesPosition + middle * Integer.BYTES);
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer.
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int readLength = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, readLength);
+            return readLength;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+
+/**
+ * A class to access Schedule data stored in the binary format of {@link BinaryFileStorage} on the hard disk.
+ * An xml file written by {@link XmlScheduleStorage} is read as well, and is replaced by a binary file when
+ * the schedule is next saved. Use {@link XmlScheduleStorage} to export the schedule as xml.
+ */
+public class BinaryScheduleStorage implements ScheduleStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScheduleStorage.class);
+
+    private Path filePath;
+
+    public BinaryScheduleStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getScheduleFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException, ParseException {
+        return readSchedule(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSchedule()}
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException,
+                                                                           ParseException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Schedule file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (BinaryFileStorage.isBinaryFile(filePath)) {
+            return Optional.of(BinaryFileStorage.loadScheduleFromSaveFile(filePath));
+        }
+
+        logger.info("Importing Schedule from xml file " + filePath);
+        try {
+            return Optional.of(XmlFileStorage.loadScheduleFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        saveSchedule(schedule, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSchedule(ReadOnlySchedule)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryFileStorage.saveScheduleToFile(filePath, schedule);
+    }
+
+    @Override
+    public void saveScheduleChanges(ReadOnlySchedule schedule, Collection<ScheduleEvent> changedEvents,
+                                    Collection<EventId> removedEventIds) throws IOException {
+        saveSchedule(schedule);
+    }
+}
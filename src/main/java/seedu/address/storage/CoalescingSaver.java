@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * Saves data on an {@code Executor}, so that the thread requesting a save does not wait for it.
+ * Requests made while an earlier one is still waiting to run are coalesced into it, so a burst of changes costs
+ * one save. By default only the most recently requested data is saved.
+ */
+public class CoalescingSaver<T> {
+
+    /**
+     * Saves one version of the data.
+     */
+    @FunctionalInterface
+    public interface SaveOperation<T> {
+        void save(T data) throws IOException;
+    }
+
+    private final Executor executor;
+    private final SaveOperation<T> saveOperation;
+    private final Consumer<IOException> failureHandler;
+    private final BinaryOperator<T> coalescer;
+    // the data still to be saved, or null if no save is waiting to run
+    private final AtomicReference<T> pending = new AtomicReference<>();
+
+    /**
+     * Creates a saver which runs {@code saveOperation} on {@code executor},
+     * passing any exception it throws to {@code failureHandler} on the same thread.
+     */
+    public CoalescingSaver(Executor executor, SaveOperation<T> saveOperation,
+                           Consumer<IOException> failureHandler) {
+        this(executor, saveOperation, failureHandler, (waiting, latest) -> latest);
+    }
+
+    /**
+     * Creates a saver like {@link #CoalescingSaver(Executor, SaveOperation, Consumer)}, which saves the data
+     * returned by {@code coalescer} for the data of a save still waiting to run and the data requested after it.
+     * {@code coalescer} may be called more than once for the same request, so it must not change either data.
+     */
+    public CoalescingSaver(Executor executor, SaveOperation<T> saveOperation,
+                           Consumer<IOException> failureHandler, BinaryOperator<T> coalescer) {
+        requireAllNonNull(executor, saveOperation, failureHandler, coalescer);
+        this.executor = executor;
+        this.saveOperation = saveOperation;
+        this.failureHandler = failureHandler;
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Requests that {@code data} be saved, coalescing it into any save still waiting to run.
+     * {@code data} must not be modified afterwards.
+     */
+    public void requestSave(T data) {
+        requireNonNull(data);
+        T waiting = pending.getAndAccumulate(data, (current, latest) ->
+                current == null ? latest : coalescer.apply(current, latest));
+        if (waiting == null) {
+            executor.execute(this::savePending);
+        }
+    }
+
+    private void savePending() {
+        T data = pending.getAndSet(null);
+        try {
+            saveOperation.save(data);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data to be saved, with the elements which were added or changed in it and the IDs of the elements which were
+ * removed from it since it was last saved, so that a storage which can save part of the data only saves those.
+ * The changes may also be unknown, such as after the whole data was reset, in which case all of it must be saved.
+ *
+ * @param <D> the type of the data.
+ * @param <K> the type of the IDs of the elements.
+ * @param <T> the type of the elements.
+ */
+public class DataChanges<D, K, T> {
+
+    private final D data;
+    // the elements added or changed by ID, in the order they were first changed, or null if the changes are unknown
+    private final Map<K, T> changedElements;
+    private final Set<K> removedIds;
+
+    private DataChanges(D data, Map<K, T> changedElements, Set<K> removedIds) {
+        this.data = requireNonNull(data);
+        this.changedElements = changedElements;
+        this.removedIds = removedIds;
+    }
+
+    /**
+     * Returns the changes to {@code data} when it is not known which of its elements changed.
+     */
+    public static <D, K, T> DataChanges<D, K, T> ofUnknown(D data) {
+        return new DataChanges<>(data, null, Collections.emptySet());
+    }
+
+    /**
+     * Returns the changes to {@code data} which added or changed {@code changedElements}, given by ID.
+     */
+    public static <D, K, T> DataChanges<D, K, T> ofChanged(D data, Map<K, T> changedElements) {
+        return new DataChanges<>(data, new LinkedHashMap<>(changedElements), Collections.emptySet());
+    }
+
+    /**
+     * Returns the changes to {@code data} which removed the elements with {@code removedIds}.
+     */
+    public static <D, K, T> DataChanges<D, K, T> ofRemoved(D data, Collection<K> removedIds) {
+        return new DataChanges<>(data, Collections.emptyMap(), new LinkedHashSet<>(removedIds));
+    }
+
+    /**
+     * Returns the changes made by these changes followed by {@code later}, which leave the data of {@code later}.
+     */
+    public DataChanges<D, K, T> followedBy(DataChanges<D, K, T> later) {
+        requireNonNull(later);
+        if (!isKnown() || !later.isKnown()) {
+            return ofUnknown(later.data);
+        }
+
+        Map<K, T> combinedChanges = new LinkedHashMap<>(changedElements);
+        Set<K> combinedRemovals = new LinkedHashSet<>(removedIds);
+        for (K id : later.removedIds) {
+            combinedChanges.remove(id);
+            combinedRemovals.add(id);
+        }
+        later.changedElements.forEach((id, element) -> {
+            combinedRemovals.remove(id);
+            combinedChanges.put(id, element);
+        });
+        return new DataChanges<>(later.data, combinedChanges, combinedRemovals);
+    }
+
+    public D getData() {
+        return data;
+    }
+
+    /**
+     * Returns true if the elements which changed are known, and false if any of the data may have changed.
+     */
+    public boolean isKnown() {
+        return changedElements != null;
+    }
+
+    /**
+     * Returns the elements which were added or changed, as they are now, in the order they were first changed.
+     * Only valid if the changes are {@link #isKnown() known}.
+     */
+    public Collection<T> getChangedElements() {
+        return Collections.unmodifiableCollection(changedElements.values());
+    }
+
+    /**
+     * Returns the IDs of the elements which were removed.
+     */
+    public Set<K> getRemovedIds() {
+        return Collections.unmodifiableSet(removedIds);
+    }
+}
@@ -0,0 +1,437 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An append-only journal of the changes made to a list of elements since a snapshot of the list was saved,
+ * so that saving a change writes the change rather than the whole list.
+ * Appending changes which the caller already knows costs as much as the changes. Otherwise the journal finds them
+ * by comparing the whole list with the list as last saved, which costs as much as the list.
+ * Each record either puts an element, replacing the element with the same id in place or adding it to the end,
+ * deletes the element with an id, or clears the list. Replaying the records over the snapshot gives the list as
+ * last saved.
+ *
+ * The journal is kept next to the snapshot file, and starts with a checksum of the snapshot it was written for,
+ * so that a journal left behind by a crash after a new snapshot was written is ignored.
+ * Each record is checksummed too, and a record torn by a crash while it was appended is discarded.
+ */
+public class Journal<T> {
+
+    public static final String FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(Journal.class);
+
+    private static final int MAGIC = 0x4A524E4C;
+    private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+    // the type, length and checksum of a record
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES;
+    private static final byte PUT = 'P';
+    private static final byte DELETE = 'D';
+    private static final byte CLEAR = 'C';
+
+    /**
+     * Converts a record written by the encoder of a journal back to its element.
+     */
+    @FunctionalInterface
+    public interface RecordDecoder<T> {
+        T decode(String record) throws DataConversionException;
+    }
+
+    /**
+     * Receives the changes recorded in a journal as it is replayed.
+     */
+    public interface ReplayTarget<T> {
+        /**
+         * Replaces the element with the same id as {@code element} in place, or adds it to the end.
+         */
+        void put(T element);
+
+        /**
+         * Deletes the element with {@code id}.
+         */
+        void delete(String id);
+
+        /**
+         * Deletes every element.
+         */
+        void clear();
+    }
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Function<T, String> idOf;
+    private final Function<T, ?> stateOf;
+    private final Function<T, String> encoder;
+    private final RecordDecoder<T> decoder;
+    private final long compactionThreshold;
+
+    // whether the records in the journal file turn the snapshot into the list as last saved
+    private boolean isCurrent;
+    // the elements as last saved by id, in the order of the list, or null if not known
+    private LinkedHashMap<String, T> saved;
+    // the state of the elements in saved as it was when they were saved, by id
+    private Map<String, Object> savedStates;
+
+    /**
+     * Creates the journal of {@code snapshotFile}, which asks to be compacted once it has grown to
+     * {@code compactionThreshold} bytes.
+     *
+     * @param idOf    Returns the id of an element, which must be unique in the list and never change.
+     * @param stateOf Returns the part of the state of an element which can be changed without replacing the
+     *                element in the list, compared with {@code equals}. Elements are otherwise taken to be
+     *                unchanged as long as they are the same instance.
+     * @param encoder Converts an element to a record.
+     * @param decoder Converts a record back to its element.
+     */
+    public Journal(Path snapshotFile, Function<T, String> idOf, Function<T, ?> stateOf,
+                   Function<T, String> encoder, RecordDecoder<T> decoder, long compactionThreshold) {
+        requireAllNonNull(snapshotFile, idOf, stateOf, encoder, decoder);
+        this.snapshotFile = snapshotFile;
+        this.journalFile = getJournalFile(snapshotFile);
+        this.idOf = idOf;
+        this.stateOf = stateOf;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the file of the journal of {@code snapshotFile}.
+     */
+    public static Path getJournalFile(Path snapshotFile) {
+        return snapshotFile.resolveSibling(snapshotFile.getFileName() + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns {@code snapshot}, which must have just been read from the snapshot file, with the changes recorded
+     * in the journal applied to it.
+     * A torn record at the end of the journal is removed from the file.
+     *
+     * @throws DataConversionException if a record cannot be decoded.
+     */
+    public List<T> replay(List<? extends T> snapshot) throws IOException, DataConversionException {
+        LinkedHashMap<String, T> elements = toMap(snapshot);
+        ReplayTarget<T> target = new ReplayTarget<T>() {
+            @Override
+            public void put(T element) {
+                elements.put(idOf.apply(element), element);
+            }
+
+            @Override
+            public void delete(String id) {
+                elements.remove(id);
+            }
+
+            @Override
+            public void clear() {
+                elements.clear();
+            }
+        };
+        if (replay(target)) {
+            setSaved(elements);
+        }
+        // otherwise the next save writes a new snapshot and starts a journal for it
+        return new ArrayList<>(elements.values());
+    }
+
+    /**
+     * Applies the changes recorded in the journal to {@code target}, which must hold the snapshot that has just
+     * been read from the snapshot file, without going through the elements of the snapshot.
+     * Returns false without applying any changes if there is no journal written for the snapshot file.
+     * Only changes which the caller knows can be appended afterwards, as the list as last saved is not known.
+     * A torn record at the end of the journal is removed from the file.
+     *
+     * @throws DataConversionException if a record cannot be decoded.
+     */
+    public boolean replay(ReplayTarget<T> target) throws IOException, DataConversionException {
+        saved = null;
+        isCurrent = Files.exists(journalFile) && applyRecords(target);
+        return isCurrent;
+    }
+
+    /**
+     * Appends the changes which turn the list as last saved into {@code elements}, and forces them to the disk.
+     * Returns false without appending anything if the journal must first be compacted into a new snapshot, which
+     * is when the list as last saved is not known, when the journal has outgrown the compaction threshold, or when
+     * the changes reorder the list, which records cannot express.
+     */
+    public boolean append(List<? extends T> elements) throws IOException {
+        if (saved == null || !canAppend()) {
+            return false;
+        }
+
+        LinkedHashMap<String, T> current = toMap(elements);
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        Iterator<String> keptIds = saved.keySet().stream().filter(current::containsKey).iterator();
+        boolean isAddingToEnd = false;
+        for (Map.Entry<String, T> entry : current.entrySet()) {
+            T previous = saved.get(entry.getKey());
+            if (previous == null) {
+                isAddingToEnd = true;
+            } else if (isAddingToEnd || !keptIds.next().equals(entry.getKey())) {
+                return false;
+            }
+            // elements with the same id need not be identical in every field, so they are compared by reference
+            if (previous != entry.getValue()
+                    || !Objects.equals(savedStates.get(entry.getKey()), stateOf.apply(entry.getValue()))) {
+                writeRecord(out, PUT, encoder.apply(entry.getValue()));
+            }
+        }
+        for (String id : saved.keySet()) {
+            if (!current.containsKey(id)) {
+                writeRecord(out, DELETE, id);
+            }
+        }
+
+        writeRecords(records);
+        setSaved(current);
+        return true;
+    }
+
+    /**
+     * Appends the records which put {@code changedElements} and delete the elements with {@code removedIds}, and
+     * forces them to the disk. These must be all the changes to the list since it was last saved, and an element
+     * which was not in the list then must have been added to its end.
+     * Returns false without appending anything if the journal must first be compacted into a new snapshot, which
+     * is when the journal does not match the files or when it has outgrown the compaction threshold.
+     */
+    public boolean append(Collection<? extends T> changedElements, Collection<String> removedIds)
+            throws IOException {
+        requireAllNonNull(changedElements, removedIds);
+        if (!canAppend()) {
+            return false;
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        for (T element : changedElements) {
+            writeRecord(out, PUT, encoder.apply(element));
+        }
+        for (String id : removedIds) {
+            writeRecord(out, DELETE, id);
+        }
+
+        writeRecords(records);
+        if (saved != null) {
+            for (T element : changedElements) {
+                String id = idOf.apply(element);
+                saved.put(id, element);
+                savedStates.put(id, stateOf.apply(element));
+            }
+            for (String id : removedIds) {
+                saved.remove(id);
+                savedStates.remove(id);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the journal with one which clears the snapshot and puts {@code elements}, for when the list must
+     * be saved in full but the snapshot file cannot be replaced, such as while it is mapped into memory.
+     * The journal is replaced atomically, so a crash leaves either the old journal or the new one.
+     * Only changes which the caller knows can be appended afterwards, as with {@link #replay(ReplayTarget)}.
+     */
+    public void rewrite(List<? extends T> elements) throws IOException {
+        saved = null;
+        isCurrent = false;
+        ByteArrayOutputStream journal = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(journal);
+        out.writeInt(MAGIC);
+        out.writeLong(getChecksum(snapshotFile));
+        writeRecord(out, CLEAR, "");
+        for (T element : elements) {
+            writeRecord(out, PUT, encoder.apply(element));
+        }
+        FileUtil.writeAtomically(journalFile, tempFile -> Files.write(tempFile, journal.toByteArray()));
+        isCurrent = true;
+    }
+
+    /**
+     * Starts a new, empty journal for the snapshot file, which must have just been written with {@code elements}.
+     */
+    public void reset(List<? extends T> elements) throws IOException {
+        reset();
+        setSaved(toMap(elements));
+    }
+
+    /**
+     * Starts a new, empty journal for the snapshot file, which must have just been written or read, without going
+     * through the elements of the list. Only changes which the caller knows can be appended afterwards.
+     */
+    public void reset() throws IOException {
+        saved = null;
+        isCurrent = false;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(MAGIC).putLong(getChecksum(snapshotFile)).flip();
+        // a crash before the header is written in full leaves a journal which is ignored, as it should be
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            channel.force(false);
+        }
+        isCurrent = true;
+    }
+
+    /**
+     * Returns true if the journal matches the files, and has room for more records.
+     */
+    private boolean canAppend() throws IOException {
+        return isCurrent && Files.exists(journalFile) && Files.size(journalFile) < compactionThreshold;
+    }
+
+    /**
+     * Appends {@code records} to the journal, and forces them to the disk.
+     */
+    private void writeRecords(ByteArrayOutputStream records) throws IOException {
+        if (records.size() == 0) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, ByteBuffer.wrap(records.toByteArray()));
+            channel.force(false);
+        } catch (IOException e) {
+            // the records may have been partly written
+            isCurrent = false;
+            saved = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the records in the journal to {@code target}, and removes a torn record from the end of the journal.
+     * Returns false without applying any records if the journal was not written for the snapshot file.
+     */
+    private boolean applyRecords(ReplayTarget<T> target) throws IOException, DataConversionException {
+        long journalLength = Files.size(journalFile);
+        long validLength = HEADER_LENGTH;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile)))) {
+            if (journalLength < HEADER_LENGTH || in.readInt() != MAGIC
+                    || in.readLong() != getChecksum(snapshotFile)) {
+                logger.warning("Ignoring journal " + journalFile + " which was not written for " + snapshotFile);
+                return false;
+            }
+
+            int type;
+            while ((type = in.read()) != -1) {
+                int length = in.readInt();
+                if (length < 0 || length > journalLength - validLength - RECORD_OVERHEAD) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if ((type != PUT && type != DELETE && type != CLEAR)
+                        || in.readInt() != getChecksum((byte) type, payload)) {
+                    break;
+                }
+                applyRecord(target, (byte) type, new String(payload, StandardCharsets.UTF_8));
+                validLength += RECORD_OVERHEAD + length;
+            }
+        } catch (EOFException e) {
+            // the last record is torn
+        }
+
+        if (validLength < journalLength) {
+            logger.warning("Discarding " + (journalLength - validLength) + " bytes torn from the end of "
+                    + journalFile);
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        return true;
+    }
+
+    private void applyRecord(ReplayTarget<T> target, byte type, String payload) throws DataConversionException {
+        if (type == PUT) {
+            target.put(decoder.decode(payload));
+        } else if (type == DELETE) {
+            target.delete(payload);
+        } else {
+            target.clear();
+        }
+    }
+
+    private void setSaved(LinkedHashMap<String, T> elements) {
+        saved = elements;
+        savedStates = new HashMap<>();
+        elements.forEach((id, element) -> savedStates.put(id, stateOf.apply(element)));
+    }
+
+    private LinkedHashMap<String, T> toMap(List<? extends T> elements) {
+        LinkedHashMap<String, T> map = new LinkedHashMap<>();
+        for (T element : elements) {
+            map.put(idOf.apply(element), element);
+        }
+        return map;
+    }
+
+    private static void writeRecord(DataOutputStream out, byte type, String payload) throws IOException {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(type);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.writeInt(getChecksum(type, bytes));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int getChecksum(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code file}, or 0 if it does not exist.
+     */
+    private static long getChecksum(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as an xml snapshot, in the same format as
+ * {@link XmlAddressBookStorage}, and a {@link Journal} of the persons added, edited or deleted since the snapshot.
+ */
+public class JournalAddressBookStorage extends JournalFileStorage<Person, ReadOnlyAddressBook>
+        implements AddressBookStorage {
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    public Path getAddressBookFilePath() {
+        return getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        try {
+            return read(filePath);
+        } catch (ParseException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        save(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, Collection<Person> changedPersons)
+            throws IOException {
+        saveChanges(addressBook, changedPersons, Collections.emptyList());
+    }
+
+    @Override
+    protected List<Person> getElements(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList();
+    }
+
+    @Override
+    protected ReadOnlyAddressBook createData(List<Person> persons) throws IllegalValueException {
+        return XmlSerializableAddressBook.createAddressBook(persons);
+    }
+
+    @Override
+    protected List<Person> loadSnapshot(Path filePath) throws DataConversionException, IOException,
+                                                              IllegalValueException {
+        return XmlFileStorage.loadAddressBookFromSaveFile(filePath).getPersonList();
+    }
+
+    @Override
+    protected void saveSnapshot(Path filePath, ReadOnlyAddressBook addressBook) throws IOException {
+        XmlFileStorage.saveAddressBookToFile(filePath, addressBook);
+    }
+
+    @Override
+    protected String getId(Person person) {
+        return person.getId().toString();
+    }
+
+    @Override
+    protected Object getState(Person person) {
+        return person.getExists();
+    }
+
+    @Override
+    protected String encode(Person person) {
+        return encodePerson(person);
+    }
+
+    @Override
+    protected Person decode(String record) throws DataConversionException {
+        return decodePerson(record);
+    }
+
+    /**
+     * Converts {@code person} to a journal record of the address book.
+     */
+    static String encodePerson(Person person) {
+        try {
+            return XmlUtil.toXmlString(XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class,
+                    new XmlAdaptedPerson(person));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converts a journal record written by {@link #encodePerson(Person)} back to its person.
+     */
+    static Person decodePerson(String record) throws DataConversionException {
+        try {
+            return XmlUtil.fromXmlString(record, XmlAdaptedPerson.class).toModelType();
+        } catch (JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access data stored on the hard disk as an xml snapshot, in the same format as the xml storages, and a
+ * {@link Journal} of the elements added, edited or deleted since the snapshot.
+ * Saving appends the elements which changed to the journal, and the journal is compacted into a new snapshot
+ * once it grows past a threshold. The elements which changed are either given, or found by comparing the data with
+ * the data as last saved.
+ *
+ * @param <T> the type of the elements of the data.
+ * @param <R> the type of the data.
+ */
+public abstract class JournalFileStorage<T, R> {
+
+    /** The default size in bytes to which the journal may grow before it is compacted. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFileStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final Journal<T> journal;
+
+    protected JournalFileStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        journal = createJournal(filePath);
+    }
+
+    protected Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the data in the snapshot at {@code filePath} with the changes in its journal replayed over it, or
+     * an empty {@code Optional} if there is neither a snapshot nor a journal.
+     *
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    protected Optional<R> read(Path filePath) throws DataConversionException, IOException, ParseException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath) && !Files.exists(Journal.getJournalFile(filePath))) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            List<T> snapshot = Files.exists(filePath) ? loadSnapshot(filePath) : Collections.emptyList();
+            return Optional.of(createData(getJournal(filePath).replay(snapshot)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Appends the elements of {@code data} which changed since it was last saved to the journal of the snapshot
+     * at {@code filePath}, or writes a new snapshot if the journal has grown past the threshold.
+     */
+    protected void save(R data, Path filePath) throws IOException {
+        requireNonNull(data);
+        requireNonNull(filePath);
+
+        Journal<T> targetJournal = getJournal(filePath);
+        if (!targetJournal.append(getElements(data))) {
+            compact(data, filePath, targetJournal);
+        }
+    }
+
+    /**
+     * Appends {@code changedElements} and the removal of the elements with {@code removedIds}, which must be all
+     * the changes to {@code data} since it was last saved to the file of this storage, to the journal of the file,
+     * or writes a new snapshot if the journal has grown past the threshold.
+     */
+    protected void saveChanges(R data, Collection<T> changedElements, Collection<String> removedIds)
+            throws IOException {
+        requireNonNull(data);
+
+        if (!journal.append(changedElements, removedIds)) {
+            compact(data, filePath, journal);
+        }
+    }
+
+    /**
+     * Writes {@code data} as a new snapshot at {@code filePath}, and starts a new journal for it.
+     */
+    private void compact(R data, Path filePath, Journal<T> targetJournal) throws IOException {
+        logger.fine("Compacting the journal of " + filePath);
+        FileUtil.createIfMissing(filePath);
+        saveSnapshot(filePath, data);
+        targetJournal.reset(getElements(data));
+    }
+
+    /**
+     * Returns the elements of {@code data}, in order.
+     */
+    protected abstract List<T> getElements(R data);
+
+    /**
+     * Returns the data holding {@code elements}.
+     *
+     * @throws IllegalValueException if {@code elements} cannot be held together, such as when they are duplicated.
+     */
+    protected abstract R createData(List<T> elements) throws IllegalValueException;
+
+    /**
+     * Returns the elements in the snapshot at {@code filePath}.
+     */
+    protected abstract List<T> loadSnapshot(Path filePath) throws DataConversionException, IOException,
+                                                                  IllegalValueException, ParseException;
+
+    /**
+     * Writes {@code data} as the snapshot at {@code filePath}.
+     */
+    protected abstract void saveSnapshot(Path filePath, R data) throws IOException;
+
+    /**
+     * Returns the id of {@code element}, which must be unique among the elements and never change.
+     */
+    protected abstract String getId(T element);
+
+    /**
+     * Returns the part of the state of {@code element} which can be changed in place, as described in
+     * {@link Journal}. There is none by default.
+     */
+    protected Object getState(T element) {
+        return null;
+    }
+
+    /**
+     * Converts {@code element} to a journal record.
+     */
+    protected abstract String encode(T element);
+
+    /**
+     * Converts a journal record written by {@link #encode(Object)} back to its element.
+     */
+    protected abstract T decode(String record) throws DataConversionException;
+
+    /**
+     * Returns the journal of {@code filePath}, which is only kept across calls for the file of this storage.
+     */
+    private Journal<T> getJournal(Path filePath) {
+        return filePath.equals(this.filePath) ? journal : createJournal(filePath);
+    }
+
+    private Journal<T> createJournal(Path filePath) {
+        return new Journal<>(filePath, this::getId, this::getState, this::encode, this::decode, compactionThreshold);
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+
+/**
+ * A class to access Schedule data stored on the hard disk as an xml snapshot, in the same format as
+ * {@link XmlScheduleStorage}, and a {@link Journal} of the events added, edited or deleted since the snapshot.
+ */
+public class JournalScheduleStorage extends JournalFileStorage<ScheduleEvent, ReadOnlySchedule>
+        implements ScheduleStorage {
+
+    public JournalScheduleStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalScheduleStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    public Path getScheduleFilePath() {
+        return getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException, ParseException {
+        return readSchedule(getFilePath());
+    }
+
+    /**
+     * Similar to {@link #readSchedule()}
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException,
+                                                                           ParseException {
+        return read(filePath);
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        saveSchedule(schedule, getFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveSchedule(ReadOnlySchedule)}
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        save(schedule, filePath);
+    }
+
+    @Override
+    public void saveScheduleChanges(ReadOnlySchedule schedule, Collection<ScheduleEvent> changedEvents,
+                                    Collection<EventId> removedEventIds) throws IOException {
+        saveChanges(schedule, changedEvents,
+                removedEventIds.stream().map(EventId::toString).collect(Collectors.toList()));
+    }
+
+    @Override
+    protected List<ScheduleEvent> getElements(ReadOnlySchedule schedule) {
+        return schedule.getAllEventList();
+    }
+
+    @Override
+    protected ReadOnlySchedule createData(List<ScheduleEvent> events) throws IllegalValueException {
+        return XmlSerializableSchedule.createSchedule(events);
+    }
+
+    @Override
+    protected List<ScheduleEvent> loadSnapshot(Path filePath) throws DataConversionException, IOException,
+                                                                     IllegalValueException, ParseException {
+        return XmlFileStorage.loadScheduleFromSaveFile(filePath).getAllEventList();
+    }
+
+    @Override
+    protected void saveSnapshot(Path filePath, ReadOnlySchedule schedule) throws IOException {
+        XmlFileStorage.saveScheduleToFile(filePath, schedule);
+    }
+
+    @Override
+    protected String getId(ScheduleEvent event) {
+        return event.getId().toString();
+    }
+
+    @Override
+    protected String encode(ScheduleEvent event) {
+        try {
+            return XmlUtil.toXmlString(XmlSerializableSchedule.EVENT_ELEMENT, XmlAdaptedEvent.class,
+                    new XmlAdaptedEvent(event));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected ScheduleEvent decode(String record) throws DataConversionException {
+        try {
+            return XmlUtil.fromXmlString(record, XmlAdaptedEvent.class).toModelType();
+        } catch (JAXBException | IllegalValueException | ParseException e) {
+            throw new DataConversionException(e);
+        }
+    }
+}
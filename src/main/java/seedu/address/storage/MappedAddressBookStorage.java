@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryFileStorage} on the hard disk,
+ * which maps the file into memory and reads each person only when it is asked for, so that opening an address book
+ * with many persons, most of them deleted long ago, takes neither long nor much of the heap.
+ *
+ * As some file systems do not allow a mapped file to be replaced, saving leaves the binary snapshot as it is and
+ * appends the persons which changed to a {@link Journal} of it, in the same format as
+ * {@link JournalAddressBookStorage}. The journal is compacted into a new snapshot when the address book is next read,
+ * before the snapshot is mapped, once it has grown past a threshold.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final long compactionThreshold;
+    private final Journal<Person> journal;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, JournalFileStorage.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public MappedAddressBookStorage(Path filePath, long compactionThreshold) {
+        super(filePath);
+        this.compactionThreshold = compactionThreshold;
+        journal = createJournal(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        Path journalFile = Journal.getJournalFile(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalFile)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Journal<Person> targetJournal = getJournal(filePath);
+        if (!isBinarySnapshot(filePath)
+                || (Files.exists(journalFile) && Files.size(journalFile) >= compactionThreshold)) {
+            compact(filePath, targetJournal);
+        }
+
+        AddressBook addressBook = BinaryFileStorage.mapAddressBookFile(filePath);
+        if (!targetJournal.replay(new MappedAddressBookTarget(addressBook))) {
+            targetJournal.reset();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook} in full at {@code filePath}.
+     * A binary snapshot already at {@code filePath} may be mapped, so its journal is replaced by one which
+     * replaces every person in it instead.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Journal<Person> targetJournal = getJournal(filePath);
+        if (isBinarySnapshot(filePath)) {
+            targetJournal.rewrite(addressBook.getPersonList());
+        } else {
+            super.saveAddressBook(addressBook, filePath);
+            targetJournal.reset();
+        }
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, Collection<Person> changedPersons)
+            throws IOException {
+        requireAllNonNull(addressBook, changedPersons);
+
+        if (!journal.append(changedPersons, Collections.emptyList())) {
+            saveAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * Writes the address book at {@code filePath}, with the changes in its journal, as a new binary snapshot and
+     * starts a new journal for it. This reads every person, and must happen before the snapshot is mapped.
+     */
+    private void compact(Path filePath, Journal<Person> targetJournal) throws DataConversionException, IOException {
+        logger.fine("Compacting the journal of " + filePath);
+        List<Person> snapshot = Files.exists(filePath)
+                ? super.readAddressBook(filePath).get().getPersonList()
+                : Collections.emptyList();
+        try {
+            super.saveAddressBook(XmlSerializableAddressBook.createAddressBook(targetJournal.replay(snapshot)),
+                    filePath);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        targetJournal.reset();
+    }
+
+    private static boolean isBinarySnapshot(Path filePath) throws IOException {
+        return Files.exists(filePath) && BinaryFileStorage.isBinaryFile(filePath);
+    }
+
+    /**
+     * Returns the journal of {@code filePath}, which is only kept across calls for the file of this storage.
+     */
+    private Journal<Person> getJournal(Path filePath) {
+        return filePath.equals(getAddressBookFilePath()) ? journal : createJournal(filePath);
+    }
+
+    /**
+     * Returns a journal of {@code filePath} which never asks to be compacted, as the snapshot is only rewritten
+     * when it is read.
+     */
+    private static Journal<Person> createJournal(Path filePath) {
+        return new Journal<>(filePath, person -> person.getId().toString(), Person::getExists,
+                JournalAddressBookStorage::encodePerson, JournalAddressBookStorage::decodePerson, Long.MAX_VALUE);
+    }
+
+    /**
+     * Applies the changes in a journal to a mapped address book, reading only the persons which they change.
+     */
+    private static class MappedAddressBookTarget implements Journal.ReplayTarget<Person> {
+        private final AddressBook addressBook;
+
+        MappedAddressBookTarget(AddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public void put(Person person) {
+            try {
+                addressBook.updatePerson(addressBook.getPersonById(person.getId()), person);
+            } catch (PersonNotFoundException e) {
+                addressBook.addPerson(person);
+            }
+        }
+
+        @Override
+        public void delete(String id) {
+            // persons are soft deleted instead, so this reads every person only for a journal written otherwise
+            addressBook.setPersons(addressBook.getPersonList().stream()
+                    .filter(person -> !person.getId().toString().equals(id))
+                    .collect(Collectors.toList()));
+        }
+
+        @Override
+        public void clear() {
+            addressBook.setPersons(Collections.emptyList());
+        }
+    }
+}
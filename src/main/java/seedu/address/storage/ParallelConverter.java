@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the records read from a file into model objects on all the cores of the machine.
+ * Errors are reported as if the records had been converted one after another: the error of the first invalid
+ * record is thrown, with the index of that record, however the work was split between threads.
+ */
+class ParallelConverter {
+
+    /**
+     * Converts one record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<S, T> {
+        T convert(S record) throws IllegalValueException, ParseException;
+    }
+
+    /**
+     * Returns the model objects of {@code records}, in the same order.
+     * Conversions must be safe to run at the same time on different threads.
+     *
+     * @param firstIndex the index in the file of the first of {@code records}, for error messages.
+     * @throws IllegalValueException if a record is invalid.
+     * @throws ParseException if a time in a record cannot be parsed.
+     */
+    static <S, T> List<T> convertAll(List<S> records, int firstIndex, Conversion<? super S, ? extends T> conversion)
+            throws IllegalValueException, ParseException {
+        @SuppressWarnings("unchecked")
+        T[] converted = (T[]) new Object[records.size()];
+        Exception[] errors = new Exception[records.size()];
+        // records after the first invalid one known so far need not be converted
+        AtomicInteger firstError = new AtomicInteger(records.size());
+
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            if (i > firstError.get()) {
+                return;
+            }
+            try {
+                converted[i] = conversion.convert(records.get(i));
+            } catch (IllegalValueException | ParseException e) {
+                errors[i] = e;
+                firstError.accumulateAndGet(i, Math::min);
+            }
+        });
+
+        int errorIndex = firstError.get();
+        if (errorIndex == records.size()) {
+            return Arrays.asList(converted);
+        }
+        Exception cause = errors[errorIndex];
+        String message = "Invalid record at index " + (firstIndex + errorIndex) + ": " + cause.getMessage();
+        if (cause instanceof ParseException) {
+            ParseException error = new ParseException(message, ((ParseException) cause).getErrorOffset());
+            error.initCause(cause);
+            throw error;
+        }
+        throw new IllegalValueException(message, cause);
+    }
+}
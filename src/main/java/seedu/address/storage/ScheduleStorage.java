@@ -3,10 +3,13 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.text.ParseException;
+import java.util.Collection;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
 
 /**
  * Represents a storage for {@link seedu.address.model.Schedule}.
@@ -43,4 +46,13 @@ public interface ScheduleStorage {
      */
     void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlySchedule}, in which only {@code changedEvents} were added or changed and only
+     * the events with {@code removedEventIds} were removed since it was last saved to the storage.
+     * A storage which cannot save part of the schedule saves all of it.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveScheduleChanges(ReadOnlySchedule schedule, Collection<ScheduleEvent> changedEvents,
+                             Collection<EventId> removedEventIds) throws IOException;
+
 }
@@ -44,16 +44,21 @@ public interface Storage extends AddressBookStorage, ScheduleStorage, UserPrefsS
 
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
     /**
-     * Saves the current version of the Schedule to the hard disk.
+     * Saves the current version of the Schedule to the hard disk in the background.
      *  Creates the data file if it is missing.
      *  Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleScheduleChangedEvent(ScheduleChangedEvent sce);
+
+    /**
+     * Waits until every save requested by a change event so far has finished.
+     */
+    void flush();
 }
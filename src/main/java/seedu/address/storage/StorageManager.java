@@ -3,7 +3,14 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.text.ParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,15 +18,23 @@ import com.google.common.eventbus.Subscribe;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ModelChangedEvent.Change;
 import seedu.address.commons.events.model.ScheduleChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the address book and schedule are saved on a single background writer thread, so that the thread
+ * raising the change events never waits for the disk. The elements which the events say changed are passed on, so
+ * that a storage which can save part of the data only saves those.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -28,6 +43,17 @@ public class StorageManager extends ComponentManager implements Storage {
     private ScheduleStorage scheduleStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread writer = new Thread(runnable, "storage-writer");
+        writer.setDaemon(true);
+        return writer;
+    });
+    private final CoalescingSaver<DataChanges<ReadOnlyAddressBook, PersonId, Person>> addressBookSaver =
+            new CoalescingSaver<>(saveExecutor, this::saveAddressBookChanges, this::raiseDataSavingException,
+                    DataChanges::followedBy);
+    private final CoalescingSaver<DataChanges<ReadOnlySchedule, EventId, ScheduleEvent>> scheduleSaver =
+            new CoalescingSaver<>(saveExecutor, this::saveScheduleChanges, this::raiseDataSavingException,
+                    DataChanges::followedBy);
 
     public StorageManager(AddressBookStorage addressBookStorage, ScheduleStorage scheduleStorage,
                           UserPrefsStorage userPrefsStorage) {
@@ -84,16 +110,31 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, Collection<Person> changedPersons)
+            throws IOException {
+        logger.fine("Attempting to write " + changedPersons.size() + " changed persons to address book data file: "
+                + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changedPersons);
+    }
+
+    private void saveAddressBookChanges(DataChanges<ReadOnlyAddressBook, PersonId, Person> changes)
+            throws IOException {
+        if (changes.isKnown()) {
+            saveAddressBookChanges(changes.getData(), changes.getChangedElements());
+        } else {
+            saveAddressBook(changes.getData());
+        }
+    }
+
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local address book changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        // the event carries a copy, which the model does not change while the save waits to run
+        addressBookSaver.requestSave(event.change == Change.RESET ? DataChanges.ofUnknown(event.data)
+                : DataChanges.ofChanged(event.data, Collections.singletonMap(event.personId, event.person)));
     }
 
     @Override
@@ -122,14 +163,60 @@ public class StorageManager extends ComponentManager implements Storage {
         scheduleStorage.saveSchedule(schedule, filePath);
     }
 
+    @Override
+    public void saveScheduleChanges(ReadOnlySchedule schedule, Collection<ScheduleEvent> changedEvents,
+                                    Collection<EventId> removedEventIds) throws IOException {
+        logger.fine("Attempting to write " + (changedEvents.size() + removedEventIds.size())
+                + " changed events to schedule data file: " + scheduleStorage.getScheduleFilePath());
+        scheduleStorage.saveScheduleChanges(schedule, changedEvents, removedEventIds);
+    }
+
+    private void saveScheduleChanges(DataChanges<ReadOnlySchedule, EventId, ScheduleEvent> changes)
+            throws IOException {
+        if (changes.isKnown()) {
+            saveScheduleChanges(changes.getData(), changes.getChangedElements(), changes.getRemovedIds());
+        } else {
+            saveSchedule(changes.getData());
+        }
+    }
+
     @Override
     @Subscribe
     public void handleScheduleChangedEvent(ScheduleChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local schedule changed, saving to file"));
+        scheduleSaver.requestSave(toDataChanges(event));
+    }
+
+    /**
+     * Returns the changes to the schedule which {@code event} describes.
+     */
+    private static DataChanges<ReadOnlySchedule, EventId, ScheduleEvent> toDataChanges(ScheduleChangedEvent event) {
+        switch (event.change) {
+        case RESET:
+            return DataChanges.ofUnknown(event.data);
+        case REMOVED:
+            return DataChanges.ofRemoved(event.data, event.eventIds);
+        default:
+            Map<EventId, ScheduleEvent> changedEvents = new LinkedHashMap<>();
+            event.events.forEach(changedEvent -> changedEvents.put(changedEvent.getId(), changedEvent));
+            return DataChanges.ofChanged(event.data, changedEvents);
+        }
+    }
+
+    @Override
+    public void flush() {
         try {
-            saveSchedule(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            // the writer runs saves in order, so every save requested before this no-op has finished after it
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
+
+    private void raiseDataSavingException(IOException e) {
+        logger.warning("Failed to save data to file: " + e.getMessage());
+        raise(new DataSavingExceptionEvent(e));
+    }
 }
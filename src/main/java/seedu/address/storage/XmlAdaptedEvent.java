@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -12,7 +11,7 @@ import java.util.stream.Collectors;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.Pair;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.event.EventId;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.person.PersonId;
@@ -72,8 +71,8 @@ public class XmlAdaptedEvent {
      */
     public XmlAdaptedEvent(ScheduleEvent source) {
         eventId = source.getId().toString();
-        datetimeStart = ScheduleEvent.STORAGE_SDF.format(source.getDate().getKey().getTime());
-        datetimeEnd = ScheduleEvent.STORAGE_SDF.format(source.getDate().getValue().getTime());
+        datetimeStart = DateTimeUtil.formatDateTime(source.getStartMillis());
+        datetimeEnd = DateTimeUtil.formatDateTime(source.getEndMillis());
         personId = source.getPersonId().toString();
         details = source.getDetails();
         tagged = source.getTags().stream()
@@ -105,21 +104,11 @@ public class XmlAdaptedEvent {
         if (datetimeStart == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Calendar Start"));
         }
-        if (ScheduleEvent.STORAGE_SDF.parse(datetimeStart) == null) {
-            throw new IllegalValueException("Unable to parse datetime start");
-        }
+        final long startMillis = DateTimeUtil.parseDateTime(datetimeStart);
         if (datetimeEnd == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Calendar End"));
         }
-        if (ScheduleEvent.STORAGE_SDF.parse(datetimeEnd) == null) {
-            throw new IllegalValueException("Unable to parse datetime end");
-        }
-
-        Calendar startTime = Calendar.getInstance();
-        startTime.setTime(ScheduleEvent.STORAGE_SDF.parse(datetimeStart));
-        Calendar endTime = Calendar.getInstance();
-        endTime.setTime(ScheduleEvent.STORAGE_SDF.parse(datetimeEnd));
-        final Pair<Calendar> modelCalendarPair = new Pair<>(startTime, endTime);
+        final long endMillis = DateTimeUtil.parseDateTime(datetimeEnd);
 
         if (personId == null) {
             throw new IllegalValueException(
@@ -136,7 +125,7 @@ public class XmlAdaptedEvent {
         final String modelDetails = details;
 
         final Set<Tag> modelTags = new HashSet<>(eventTags);
-        return new ScheduleEvent(modelEventId, modelCalendarPair, modelPersonId, modelDetails, modelTags);
+        return new ScheduleEvent(modelEventId, startMillis, endMillis, modelPersonId, modelDetails, modelTags);
     }
 
     @Override
@@ -167,7 +167,7 @@ public class XmlAdaptedPerson {
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(email, otherPerson.email)
                 && Objects.equals(address, otherPerson.address)
-                && exists == otherPerson.exists
+                && Objects.equals(exists, otherPerson.exists)
                 && tagged.equals(otherPerson.tagged);
     }
 }
@@ -1,24 +1,49 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlElementReader;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
 
 /**
- * Stores addressbook data in an XML file
+ * Stores addressbook data in an XML file.
+ * Persons and events are converted and written one at a time, and read and converted in batches, so that no copy of
+ * the whole file is held in memory besides the model itself. Batches are converted in parallel, while the next batch
+ * is read.
  */
 public class XmlFileStorage {
+
+    // large enough to keep all the cores busy, small enough to hold only a small part of a large file
+    private static final int CONVERSION_BATCH_SIZE = 8192;
+
     /**
      * Saves the given addressbook data to the specified file.
      */
-    public static void saveAddressBookToFile(Path file, XmlSerializableAddressBook addressBook)
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook)
             throws FileNotFoundException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveElementsToFile(file, XmlSerializableAddressBook.ROOT_ELEMENT,
+                    XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class, () ->
+                            addressBook.getPersonList().stream().map(XmlAdaptedPerson::new).iterator());
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
@@ -26,13 +51,20 @@ public class XmlFileStorage {
 
     /**
      * Returns address book in the file or an empty address book
+     *
+     * @throws IllegalValueException if a person in the file is invalid or persons are duplicated.
      */
-    public static XmlSerializableAddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException,
-                                                                            FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
-        } catch (JAXBException e) {
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException,
+                                                                            FileNotFoundException,
+                                                                            IllegalValueException {
+        try (XmlElementReader<XmlAdaptedPerson> reader = XmlUtil.openElementReader(file,
+                XmlSerializableAddressBook.ROOT_ELEMENT, XmlSerializableAddressBook.PERSON_ELEMENT,
+                XmlAdaptedPerson.class)) {
+            return XmlSerializableAddressBook.createAddressBook(convertAll(reader, XmlAdaptedPerson::toModelType));
+        } catch (JAXBException | IOException e) {
             throw new DataConversionException(e);
+        } catch (ParseException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
@@ -42,10 +74,12 @@ public class XmlFileStorage {
      * @param schedule schedule to be saved
      * @throws FileNotFoundException
      */
-    public static void saveScheduleToFile(Path file, XmlSerializableSchedule schedule)
+    public static void saveScheduleToFile(Path file, ReadOnlySchedule schedule)
             throws FileNotFoundException {
         try {
-            XmlUtil.saveDataToFile(file, schedule);
+            XmlUtil.saveElementsToFile(file, XmlSerializableSchedule.ROOT_ELEMENT,
+                    XmlSerializableSchedule.EVENT_ELEMENT, XmlAdaptedEvent.class, () ->
+                            schedule.getAllEventList().stream().map(XmlAdaptedEvent::new).iterator());
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
@@ -53,13 +87,77 @@ public class XmlFileStorage {
 
     /**
      * Returns schedule in the file or an empty schedule
+     *
+     * @throws IllegalValueException if an event in the file is invalid or events are duplicated.
+     * @throws ParseException if the time of an event in the file cannot be parsed.
      */
-    public static XmlSerializableSchedule loadScheduleFromSaveFile(Path file) throws DataConversionException,
-                                                                        FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableSchedule.class);
-        } catch (JAXBException e) {
+    public static Schedule loadScheduleFromSaveFile(Path file) throws DataConversionException,
+                                                                      FileNotFoundException,
+                                                                      IllegalValueException,
+                                                                      ParseException {
+        try (XmlElementReader<XmlAdaptedEvent> reader = XmlUtil.openElementReader(file,
+                XmlSerializableSchedule.ROOT_ELEMENT, XmlSerializableSchedule.EVENT_ELEMENT,
+                XmlAdaptedEvent.class)) {
+            return XmlSerializableSchedule.createSchedule(convertAll(reader, XmlAdaptedEvent::toModelType));
+        } catch (JAXBException | IOException e) {
             throw new DataConversionException(e);
         }
     }
+
+    /**
+     * Reads the rest of the elements of {@code reader} and returns their model objects. Each batch of elements is
+     * converted in parallel on other threads while the next batch is read.
+     */
+    private static <S, T> List<T> convertAll(XmlElementReader<S> reader,
+            ParallelConverter.Conversion<? super S, ? extends T> conversion)
+            throws JAXBException, IllegalValueException, ParseException {
+        List<T> converted = new ArrayList<>();
+        Future<List<T>> convertingBatch = CompletableFuture.completedFuture(Collections.emptyList());
+        List<S> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        int readCount = 0;
+        for (S element = reader.next(); element != null; element = reader.next()) {
+            batch.add(element);
+            readCount++;
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                // at most one batch is converted at a time, so that reading never gets far ahead of converting
+                converted.addAll(getConverted(convertingBatch));
+                convertingBatch = convertLater(batch, readCount - batch.size(), conversion);
+                batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            }
+        }
+        converted.addAll(getConverted(convertingBatch));
+        converted.addAll(ParallelConverter.convertAll(batch, readCount - batch.size(), conversion));
+        return converted;
+    }
+
+    private static <S, T> Future<List<T>> convertLater(List<S> batch, int firstIndex,
+            ParallelConverter.Conversion<? super S, ? extends T> conversion) {
+        // unlike a task submitted to the pool, a FutureTask keeps the exception thrown as it is
+        FutureTask<List<T>> task = new FutureTask<>(() -> ParallelConverter.convertAll(batch, firstIndex, conversion));
+        ForkJoinPool.commonPool().execute(task);
+        return task;
+    }
+
+    /**
+     * Waits for a batch given to {@link #convertLater} to be converted, and returns its model objects.
+     */
+    private static <T> List<T> getConverted(Future<List<T>> convertingBatch)
+            throws IllegalValueException, ParseException {
+        try {
+            return convertingBatch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AssertionError("Unexpected exception " + cause.getMessage(), cause);
+        }
+    }
 }
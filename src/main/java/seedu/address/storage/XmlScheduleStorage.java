@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.ParseException;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,6 +16,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
 
 
 /**
@@ -50,9 +53,8 @@ public class XmlScheduleStorage implements ScheduleStorage {
             return Optional.empty();
         }
 
-        XmlSerializableSchedule xmlSchedule = XmlFileStorage.loadScheduleFromSaveFile(filePath);
         try {
-            return Optional.of(xmlSchedule.toModelType());
+            return Optional.of(XmlFileStorage.loadScheduleFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -75,6 +77,12 @@ public class XmlScheduleStorage implements ScheduleStorage {
         System.out.println(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveScheduleToFile(filePath, new XmlSerializableSchedule(schedule));
+        XmlFileStorage.saveScheduleToFile(filePath, schedule);
+    }
+
+    @Override
+    public void saveScheduleChanges(ReadOnlySchedule schedule, Collection<ScheduleEvent> changedEvents,
+                                    Collection<EventId> removedEventIds) throws IOException {
+        saveSchedule(schedule);
     }
 }
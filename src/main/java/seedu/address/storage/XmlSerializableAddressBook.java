@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -11,16 +12,19 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
  */
-@XmlRootElement(name = "addressbook")
+@XmlRootElement(name = XmlSerializableAddressBook.ROOT_ELEMENT)
 public class XmlSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String ROOT_ELEMENT = "addressbook";
+    public static final String PERSON_ELEMENT = "persons";
 
-    @XmlElement
+    @XmlElement(name = PERSON_ELEMENT)
     private List<XmlAdaptedPerson> persons;
 
     /**
@@ -41,18 +45,30 @@ public class XmlSerializableAddressBook {
 
     /**
      * Converts this addressbook into the addressBookModel's {@code AddressBook} object.
+     * The persons are converted in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedPerson}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        try {
+            return createAddressBook(ParallelConverter.convertAll(persons, 0, XmlAdaptedPerson::toModelType));
+        } catch (ParseException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBook} of the persons read from a file.
+     *
+     * @throws IllegalValueException if there are duplicates in {@code modelPersons}.
+     */
+    public static AddressBook createAddressBook(List<Person> modelPersons) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedPerson p : persons) {
-            Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + " " + e.getMessage(), e);
         }
         return addressBook;
     }
@@ -7,22 +7,24 @@ import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
-// import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.Schedule;
 import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.event.exceptions.DuplicateScheduleEventException;
 
 /**
  * An Immutable Schedule that is serializable to XML format
  */
-@XmlRootElement(name = "schedule")
+@XmlRootElement(name = XmlSerializableSchedule.ROOT_ELEMENT)
 public class XmlSerializableSchedule {
 
     public static final String MESSAGE_DUPLICATE_EVENT = "Event list contains duplicate event(s).";
+    public static final String ROOT_ELEMENT = "schedule";
+    public static final String EVENT_ELEMENT = "events";
 
-    @XmlElement
+    @XmlElement(name = EVENT_ELEMENT)
     private List<XmlAdaptedEvent> events;
 
     /**
@@ -41,18 +43,26 @@ public class XmlSerializableSchedule {
 
     /**
      * Converts this schedule into the scheduleModels' {@code Schedule} object.
+     * The events are converted in parallel.
      *
      * @throws IllegalValueException if there was any data constraints violated or duplicates in the
      * {@code XmlAdaptedEvent}.
      */
     public Schedule toModelType() throws IllegalValueException, ParseException {
+        return createSchedule(ParallelConverter.convertAll(events, 0, XmlAdaptedEvent::toModelType));
+    }
+
+    /**
+     * Returns a {@code Schedule} of the events read from a file.
+     *
+     * @throws IllegalValueException if there are duplicates in {@code modelEvents}.
+     */
+    public static Schedule createSchedule(List<ScheduleEvent> modelEvents) throws IllegalValueException {
         Schedule schedule = new Schedule();
-        for (XmlAdaptedEvent e : events) {
-            ScheduleEvent event = e.toModelType();
-            if (schedule.hasScheduleEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            schedule.addScheduleEvent(event);
+        try {
+            schedule.setScheduleEvents(modelEvents);
+        } catch (DuplicateScheduleEventException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT + " " + e.getMessage(), e);
         }
         return schedule;
     }
@@ -9,6 +9,7 @@ import seedu.address.model.event.ScheduleEvent;
 
 /**
  * An UI component that displays information of a {@code ScheduleEvent}.
+ * A card may be shown for one event after another, so that a list cell parses the card's FXML only once.
  */
 public class AppointmentCard extends UiPart<Region> {
 
@@ -22,7 +23,7 @@ public class AppointmentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final ScheduleEvent event;
+    private ScheduleEvent event;
 
     @FXML
     private HBox cardPane;
@@ -39,14 +40,29 @@ public class AppointmentCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public AppointmentCard(ScheduleEvent event, int displayedIndex) {
+    /**
+     * Creates a card which shows no event until {@link #setScheduleEvent(ScheduleEvent, int)} is called.
+     */
+    public AppointmentCard() {
         super(FXML);
+    }
+
+    public AppointmentCard(ScheduleEvent event, int displayedIndex) {
+        this();
+        setScheduleEvent(event, displayedIndex);
+    }
+
+    /**
+     * Shows {@code event} as the {@code displayedIndex}-th event of the list, in place of any event shown before.
+     */
+    public void setScheduleEvent(ScheduleEvent event, int displayedIndex) {
         this.event = event;
         id.setText(displayedIndex + ". ");
         eventid.setText(event.getId().toString());
         datetime.setText(event.getDateToString());
         personId.setText(event.getPersonId().toString());
         details.setText(event.getDetails());
+        tags.getChildren().clear();
         event.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
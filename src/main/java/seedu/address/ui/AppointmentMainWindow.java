@@ -17,7 +17,6 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.events.model.ScheduleChangedEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.Logic;
@@ -202,10 +201,4 @@ public class AppointmentMainWindow extends UiPart {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         handleHelp();
     }
-
-    @Subscribe
-    public void handleScheduleChangedEvent(ScheduleChangedEvent event) {
-        appointmentPanel = new AppointmentPanel(logic.getFilteredEventList());
-        appointmentPanelPlaceholder.getChildren().add(appointmentPanel.getRoot());
-    }
 }
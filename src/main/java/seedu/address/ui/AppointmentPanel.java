@@ -39,7 +39,8 @@ public class AppointmentPanel extends UiPart<Region> {
      * @param scheduleEventList schedule event list
      */
     private void setConnections(ObservableList<ScheduleEvent> scheduleEventList) {
-        appointmentView.setItems(scheduleEventList);
+        // commands change the list on a background thread, while the list view must only see changes on this one
+        appointmentView.setItems(FxThreadList.follow(scheduleEventList));
         appointmentView.setCellFactory(listView -> new AppointmentViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -75,8 +76,17 @@ public class AppointmentPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code ScheduleEvent} using a {@code AppointmentCard}.
+     * The cell keeps its card as it is reused for other events while the list scrolls.
      */
     class AppointmentViewCell extends ListCell<ScheduleEvent> {
+        private AppointmentCard card;
+
+        @Override
+        protected boolean isItemChanged(ScheduleEvent oldEvent, ScheduleEvent newEvent) {
+            // an edited event equals the original, as events are equal by ID
+            return true;
+        }
+
         @Override
         protected void updateItem(ScheduleEvent event, boolean empty) {
             super.updateItem(event, empty);
@@ -85,7 +95,11 @@ public class AppointmentPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AppointmentCard(event, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new AppointmentCard();
+                }
+                card.setScheduleEvent(event, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
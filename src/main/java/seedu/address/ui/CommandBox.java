@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
@@ -17,6 +20,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed in the background, during which the command box shows that it is busy and takes no input.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -29,6 +33,8 @@ public class CommandBox extends UiPart<Region> {
 
     @FXML
     private TextField commandTextField;
+    @FXML
+    private ProgressIndicator busyIndicator;
 
     public CommandBox(Logic logic) {
         super(FXML);
@@ -100,24 +106,70 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        if (isBusy()) {
+            return;
+        }
+
+        String commandText = commandTextField.getText();
+        setBusy(true);
+        logic.executeAsync(commandText).whenComplete((commandResult, error) ->
+                Platform.runLater(() -> handleCommandCompleted(commandText, commandResult, error)));
+    }
+
+    /**
+     * Shows the result of executing {@code commandText}, which is {@code commandResult} if it succeeded, or
+     * {@code error} if it failed.
+     */
+    private void handleCommandCompleted(String commandText, CommandResult commandResult, Throwable error) {
         try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
-            commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause == null) {
+                initHistory();
+                historySnapshot.next();
+                // process result of the command
+                commandTextField.setText("");
+                logger.info("Result: " + commandResult.feedbackToUser);
+                raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            } else if (cause instanceof CommandException || cause instanceof ParseException) {
+                initHistory();
+                // handle command failure
+                setStyleToIndicateCommandFailure();
+                logger.info("Invalid command: " + commandText);
+                raise(new NewResultAvailableEvent(cause.getMessage()));
+            } else {
+                initHistory();
+                // an unexpected failure is thrown on this thread, as it was when commands were executed here
+                throwUnchecked(cause);
+            }
+        } finally {
+            setBusy(false);
         }
     }
 
+    private static void throwUnchecked(Throwable throwable) {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        throw throwable instanceof RuntimeException
+                ? (RuntimeException) throwable
+                : new IllegalStateException(throwable);
+    }
+
+    /**
+     * Returns true if a command entered in the command box is still executing.
+     */
+    public boolean isBusy() {
+        return busyIndicator.isVisible();
+    }
+
+    /**
+     * Shows whether a command is executing, during which the command box takes no input.
+     */
+    private void setBusy(boolean isBusy) {
+        busyIndicator.setVisible(isBusy);
+        commandTextField.setEditable(!isBusy);
+    }
+
     /**
      * Initializes the history snapshot.
      */
@@ -0,0 +1,75 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Copies of lists which follow the changes of their source on the JavaFX application thread, so that a list changed
+ * by commands executing on a background thread can be shown in the UI.
+ */
+public class FxThreadList {
+
+    /**
+     * Returns an unmodifiable copy of {@code source} which follows its changes on the JavaFX application thread.
+     * Changes made on the JavaFX application thread are copied at once, and changes made on another thread are
+     * copied later, in the order they were made. {@code source} must only be changed by one thread at a time.
+     */
+    public static <T> ObservableList<T> follow(ObservableList<T> source) {
+        ObservableList<T> copy = FXCollections.observableArrayList(source);
+        // changes made elsewhere which are still waiting to be copied, which later changes must wait behind
+        AtomicInteger pendingChanges = new AtomicInteger();
+        source.addListener((ListChangeListener<T>) change -> {
+            Runnable copyChange = toCopy(change, copy);
+            if (Platform.isFxApplicationThread() && pendingChanges.get() == 0) {
+                copyChange.run();
+                return;
+            }
+            pendingChanges.incrementAndGet();
+            Platform.runLater(() -> {
+                copyChange.run();
+                pendingChanges.decrementAndGet();
+            });
+        });
+        return FXCollections.unmodifiableObservableList(copy);
+    }
+
+    /**
+     * Returns the task of making {@code change} to {@code copy}, holding its own copies of the items of the change.
+     */
+    private static <T> Runnable toCopy(ListChangeListener.Change<? extends T> change, List<T> copy) {
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<T> permuted = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                steps.add(() -> replace(copy, from, permuted.size(), permuted));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                steps.add(() -> replace(copy, from, removedSize, added));
+            }
+        }
+        return () -> steps.forEach(Runnable::run);
+    }
+
+    /**
+     * Replaces the {@code removedSize} items of {@code list} from {@code from} with {@code added}.
+     * Items replaced one for one are set in place, so that the list reports them as replaced.
+     */
+    private static <T> void replace(List<T> list, int from, int removedSize, List<T> added) {
+        if (removedSize == added.size()) {
+            for (int i = 0; i < removedSize; i++) {
+                list.set(from + i, added.get(i));
+            }
+            return;
+        }
+        list.subList(from, from + removedSize).clear();
+        list.addAll(from, added);
+    }
+}
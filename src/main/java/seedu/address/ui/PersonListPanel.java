@@ -32,7 +32,8 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     private void setConnections(ObservableList<Person> personList) {
-        personListView.setItems(personList);
+        // commands change the list on a background thread, while the list view must only see changes on this one
+        personListView.setItems(FxThreadList.follow(personList));
         personListView.setCellFactory(listView -> new PersonListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -65,8 +66,17 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell keeps its card as it is reused for other persons while the list scrolls.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
+        @Override
+        protected boolean isItemChanged(Person oldPerson, Person newPerson) {
+            // an edited person equals the original, as persons are equal by ID, and a deleted one is the same object
+            return true;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -75,7 +85,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
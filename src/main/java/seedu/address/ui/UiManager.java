@@ -10,8 +10,8 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
-import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.SwitchToAppointmentEvent;
@@ -22,8 +22,10 @@ import seedu.address.model.UserPrefs;
 
 /**
  * The manager of the UI component.
+ * Its event handlers show and hide windows, so they are registered to run on the JavaFX application thread only,
+ * even when the events are posted by a command executing on another thread.
  */
-public class UiManager extends ComponentManager implements Ui {
+public class UiManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
 
@@ -41,10 +43,10 @@ public class UiManager extends ComponentManager implements Ui {
     private AppointmentMainWindow appointmentMainWindow;
     private Stage secondaryStage;
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
+        EventsCenter.getInstance().registerUiHandler(this);
     }
 
     @Override
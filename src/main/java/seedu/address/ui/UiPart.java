@@ -73,7 +73,7 @@ public abstract class UiPart<T> {
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerUiHandler(handler);
     }
 
     /**
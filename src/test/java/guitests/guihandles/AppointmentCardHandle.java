@@ -70,7 +70,7 @@ public class AppointmentCardHandle extends NodeHandle<Node> {
      */
     public boolean equals(ScheduleEvent event) {
         return getDatetime().equals(event.getDate().toString())
-                && getPersonid().equals(event.getPersonId().value)
+                && getPersonid().equals(event.getPersonId().toString())
                 && getDetails().equals(event.getDetails())
                 && ImmutableMultiset.copyOf(getTags()).equals(ImmutableMultiset.copyOf(event.getTags().stream()
                         .map(tag -> tag.tagName)
@@ -31,6 +31,8 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        // the command executes in the background, during which the command box takes no input
+        guiRobot.waitForEvent(() -> getRootNode().isEditable());
     }
 
     /**
@@ -16,7 +16,9 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Patient Book\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Asynchronous event dispatch : false\n"
+                + "Storage format : XML";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
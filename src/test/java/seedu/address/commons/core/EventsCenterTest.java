@@ -0,0 +1,91 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.ui.ShowHelpRequestEvent;
+import seedu.address.model.AddressBook;
+
+public class EventsCenterTest {
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_sync_handledOnPostingThread() {
+        ThreadRecordingHandler handler = new ThreadRecordingHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new AddressBookChangedEvent(new AddressBook()));
+        assertEquals(1, handler.threads.size());
+        assertSame(Thread.currentThread(), handler.threads.get(0));
+    }
+
+    @Test
+    public void post_asyncModelChangedEvents_handledInOrderOnBackgroundThread() {
+        ThreadRecordingHandler handler = new ThreadRecordingHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.setAsync(true);
+
+        List<AddressBookChangedEvent> posted = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            AddressBookChangedEvent event = new AddressBookChangedEvent(new AddressBook());
+            posted.add(event);
+            eventsCenter.post(event);
+        }
+        eventsCenter.flush();
+
+        assertEquals(posted, handler.modelEvents);
+        assertNotSame(Thread.currentThread(), handler.threads.get(0));
+        assertEquals(0, eventsCenter.getBackgroundDispatcher().getQueueDepth());
+        assertEquals(2000, eventsCenter.getBackgroundDispatcher().getDispatchCount());
+        assertTrue(eventsCenter.getBackgroundDispatcher().getMaxLatencyNanos() > 0);
+    }
+
+    @Test
+    public void post_asyncOtherEvents_handledOnPostingThread() {
+        ThreadRecordingHandler handler = new ThreadRecordingHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.setAsync(true);
+
+        eventsCenter.post(new ShowHelpRequestEvent());
+        assertEquals(1, handler.threads.size());
+        assertSame(Thread.currentThread(), handler.threads.get(0));
+        assertEquals(0, eventsCenter.getBackgroundDispatcher().getDispatchCount());
+    }
+
+    /**
+     * Records the events it handles and the threads it handles them on.
+     */
+    private static class ThreadRecordingHandler {
+        // only ever handled on one thread at a time, and read after the events center has been flushed
+        private final List<Thread> threads = new ArrayList<>();
+        private final List<AddressBookChangedEvent> modelEvents = new ArrayList<>();
+
+        @Subscribe
+        public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+            threads.add(Thread.currentThread());
+            modelEvents.add(event);
+        }
+
+        @Subscribe
+        public void handleShowHelpRequestEvent(ShowHelpRequestEvent event) {
+            threads.add(Thread.currentThread());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -72,6 +73,17 @@ public class CollectionUtilTest {
         assertNullPointerExceptionNotThrown(Arrays.asList(containingNull, new Object()));
     }
 
+    @Test
+    public void findDuplicates() {
+        assertEquals(Collections.emptyList(), CollectionUtil.findDuplicates(Arrays.asList("a", "b"), s -> s));
+        assertEquals(Arrays.asList("b", "a"),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "b", "b", "a", "a"), s -> s));
+
+        // duplicates are found by key rather than by equality of the items
+        assertEquals(Arrays.asList(3),
+                CollectionUtil.findDuplicates(Arrays.asList("abc", "de", "fgh"), String::length));
+    }
+
     @Test
     public void isAnyNonNull() {
         assertFalse(CollectionUtil.isAnyNonNull());
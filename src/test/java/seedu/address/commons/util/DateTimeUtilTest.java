@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DateTimeUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void formatDateTime_sameAsSimpleDateFormat() {
+        SimpleDateFormat format = new SimpleDateFormat(DateTimeUtil.DATE_TIME_PATTERN);
+        long millis = new GregorianCalendar(2018, Calendar.NOVEMBER, 1, 9, 5).getTimeInMillis();
+        // every hour over more than a year, through any daylight saving changes
+        for (int hour = 0; hour < 24 * 400; hour++) {
+            long time = millis + hour * 3_600_000L + 59_999L;
+            assertEquals(format.format(time), DateTimeUtil.formatDateTime(time));
+        }
+    }
+
+    @Test
+    public void parseDateTime_validTime_sameAsSimpleDateFormat() throws Exception {
+        SimpleDateFormat format = new SimpleDateFormat(DateTimeUtil.DATE_TIME_PATTERN);
+        assertEquals(format.parse("01/11/2018 14:27").getTime(), DateTimeUtil.parseDateTime("01/11/2018 14:27"));
+        assertEquals(format.parse("29/02/2020 00:00").getTime(), DateTimeUtil.parseDateTime("29/02/2020 00:00"));
+        assertEquals(format.parse("31/12/1999 23:59").getTime(), DateTimeUtil.parseDateTime("31/12/1999 23:59"));
+    }
+
+    @Test
+    public void parseDateTime_formattedTime_returnsSameMinute() throws Exception {
+        long millis = new GregorianCalendar(2018, Calendar.OCTOBER, 30, 9, 0).getTimeInMillis();
+        // formatting and parsing on many threads at once
+        IntStream.range(0, 100_000).parallel().forEach(i -> {
+            long time = millis + i * 60_000L;
+            try {
+                assertEquals(time, DateTimeUtil.parseDateTime(DateTimeUtil.formatDateTime(time)));
+            } catch (ParseException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @Test
+    public void parseDateTime_dayOutOfRange_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        DateTimeUtil.parseDateTime("31/02/2018 10:00");
+    }
+
+    @Test
+    public void parseDateTime_wrongWidth_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        DateTimeUtil.parseDateTime("1/11/2018 14:27");
+    }
+
+    @Test
+    public void parseDateTime_notDigits_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        DateTimeUtil.parseDateTime("01/11/2018 1a:27");
+    }
+}
@@ -1,27 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-import org.junit.Rule;
+import java.util.List;
+
 import org.junit.Test;
-import org.junit.rules.ExpectedException;
 
 public class DrugCsvUtilTest {
 
-    private static final String TEST_KEYWORD = "Lyrica";
-
-    @Rule
-    public ExpectedException thrown = ExpectedException.none();
+    private static final String TEST_KEYWORD = "lyrica";
 
     @Test
-    public void returnsNullEventually() throws Exception {
-        DrugCsvUtil testutil = new DrugCsvUtil(TEST_KEYWORD);
-        String[] nextRecord;
-        while ((nextRecord = testutil.nextMatchingEntry()) != null) {
-            // do nothing
-        }
-        for (int i = 1; i <= 5; i++) {
-            assertTrue((nextRecord = testutil.nextMatchingEntry()) == null);
-        }
+    public void readAllEntries_bundledDataset_readsEveryColumnOfEveryEntry() throws Exception {
+        List<String[]> entries = DrugCsvUtil.readAllEntries();
+        assertFalse(entries.isEmpty());
+        assertTrue(entries.stream().anyMatch(entry -> entry[1].toLowerCase().contains(TEST_KEYWORD)));
+        assertTrue(entries.stream().allMatch(entry -> entry.length == entries.get(0).length));
     }
 }
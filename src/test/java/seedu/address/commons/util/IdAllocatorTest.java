@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class IdAllocatorTest {
+
+    private final IdAllocator allocator = new IdAllocator();
+
+    @Test
+    public void allocate_afterReserve_returnsNumberAfterReserved() {
+        assertEquals(0, allocator.allocate());
+        allocator.reserve(41);
+        assertEquals(42, allocator.allocate());
+
+        // reserving a number below the next one changes nothing
+        allocator.reserve(7);
+        assertEquals(43, allocator.allocate());
+    }
+
+    @Test
+    public void allocateAndReserve_manyThreads_numbersUniqueAndAfterReserved() {
+        int count = 100_000;
+        Set<Integer> allocated = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, count).parallel().forEach(i -> {
+            if (i % 2 == 0) {
+                allocator.reserve(i);
+            } else {
+                allocated.add(allocator.allocate());
+            }
+        });
+        assertEquals(count / 2, allocated.size());
+        assertTrue(allocator.allocate() >= count - 1);
+    }
+}
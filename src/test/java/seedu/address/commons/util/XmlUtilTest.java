@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
-// import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertEquals;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -149,6 +151,38 @@ public class XmlUtilTest {
     }
     */
 
+    @Test
+    public void openElementReader_emptyFile_throwsJAXBException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.openElementReader(EMPTY_FILE, "addressbook", "persons", XmlAdaptedPerson.class);
+    }
+
+    @Test
+    public void openElementReader_differentRootElement_throwsJAXBException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.openElementReader(VALID_PERSON_FILE, "addressbook", "persons", XmlAdaptedPerson.class);
+    }
+
+    @Test
+    public void saveElementsToFile_validFile_elementsReadBackInOrder() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        List<XmlAdaptedPerson> elementsToWrite = Arrays.asList(
+                new XmlAdaptedPerson(VALID_PERSONID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_EXISTS, VALID_TAGS),
+                new XmlAdaptedPerson("p124", "Anna Muster", VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, "false",
+                        Collections.emptyList()));
+        XmlUtil.saveElementsToFile(TEMP_FILE, "addressbook", "persons", XmlAdaptedPerson.class, elementsToWrite);
+
+        List<XmlAdaptedPerson> elementsFromFile = new ArrayList<>();
+        try (XmlElementReader<XmlAdaptedPerson> reader = XmlUtil.openElementReader(TEMP_FILE, "addressbook",
+                "persons", XmlAdaptedPerson.class)) {
+            for (XmlAdaptedPerson person = reader.next(); person != null; person = reader.next()) {
+                elementsFromFile.add(person);
+            }
+        }
+        assertEquals(elementsToWrite, elementsFromFile);
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
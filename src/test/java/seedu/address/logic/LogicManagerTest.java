@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 
+import java.util.concurrent.ExecutionException;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -55,6 +57,37 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeAsync_validCommand_success() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD + " " + CMDTYPE_PATIENT;
+        CommandResult result = logic.executeAsync(listCommand).get();
+        assertEquals(ListCommand.MESSAGE_PERSON_SUCCESS, result.feedbackToUser);
+        assertHistoryCorrect(listCommand);
+    }
+
+    @Test
+    public void executeAsync_commandsInOrder_executedOneAfterAnother() throws Exception {
+        String invalidCommand = "uicfhmowqewca";
+        String deleteCommand = "delete patient p9001";
+        logic.executeAsync(invalidCommand);
+        logic.executeAsync(deleteCommand);
+
+        CommandResult result = logic.executeAsync(HistoryCommand.COMMAND_WORD).get();
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, String.join("\n", deleteCommand, invalidCommand)),
+                result.feedbackToUser);
+    }
+
+    @Test
+    public void executeAsync_invalidCommandFormat_completesWithParseException() throws Exception {
+        try {
+            logic.executeAsync("uicfhmowqewca").get();
+            throw new AssertionError("The command should have failed.");
+        } catch (ExecutionException e) {
+            assertEquals(ParseException.class, e.getCause().getClass());
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -8,6 +8,9 @@ import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DISEASE;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -82,6 +85,18 @@ public class FindCommandTest {
         assertEquals(model.getFilteredEventList().get(0), TypicalEvents.e1);
     }
 
+    @Test
+    public void find_appointmentByPatientOrTag_success() throws Exception {
+        ScheduleModel model = new ScheduleModelManager();
+        model.resetData(TypicalEvents.getTypicalSchedule());
+
+        assertFoundInSchedule(model, TypicalEvents.e4.getPersonId().toString());
+        assertEquals(Arrays.asList(TypicalEvents.e4, TypicalEvents.e5), model.getFilteredEventList());
+
+        assertFoundInSchedule(model, "some");
+        assertEquals(Collections.singletonList(TypicalEvents.e2), model.getFilteredEventList());
+    }
+
     @Test
     public void find_invalidParameter() throws Exception {
         thrown.expect(CommandException.class);
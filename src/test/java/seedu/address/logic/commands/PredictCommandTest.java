@@ -4,7 +4,10 @@ import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.parser.DiseaseMatcherCliSyntax.PREFIX_SYMPTOM;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,6 +21,7 @@ import seedu.address.model.DiagnosisModel;
 import seedu.address.model.DiagnosisModelManager;
 import seedu.address.model.ScheduleModel;
 import seedu.address.model.ScheduleModelManager;
+import seedu.address.model.symptom.Disease;
 import seedu.address.model.symptom.Symptom;
 
 public class PredictCommandTest {
@@ -38,6 +42,19 @@ public class PredictCommandTest {
         assertEquals(commandResult, testDiagnosisModel(diagnosisModel, sb.toString()));
     }
 
+    @Test
+    public void parseDisease_partialMatch_returnsClosestDiseases() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        sb.append(PREFIX_SYMPTOM + "fever" + " ");
+        sb.append(PREFIX_SYMPTOM + "cry" + " ");
+        // no disease lists "cry", so the diseases listing "fever" with the fewest other symptoms are the closest
+        List<Disease> closestDiseases = Stream.of("decubitus ulcer", "migraine disorders", "melanoma",
+                "thrombocytopaenia", "pyelonephritis").map(Disease::new).collect(Collectors.toList());
+        CommandResult commandResult = new CommandResult(PredictCommand.FOUND_CLOSEST_DISEASE
+                + CommandResult.convertListToString(closestDiseases));
+        assertEquals(commandResult, testDiagnosisModel(new DiagnosisModelManager(), sb.toString()));
+    }
+
     @Test
     public void parseDisease_noSuchDisease() throws Exception {
         thrown.expect(CommandException.class);
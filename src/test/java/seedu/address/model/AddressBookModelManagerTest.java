@@ -1,25 +1,36 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 //import static seedu.address.model.AddressBookModel.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 //import static seedu.address.testutil.TypicalPersons.BENSON;
 
 //import java.nio.file.Paths;
-//import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-//import seedu.address.model.person.MatchPersonPredicate;
+import javafx.collections.ObservableList;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ModelChangedEvent.Change;
+import seedu.address.model.person.MatchPersonPredicate;
+import seedu.address.model.person.Person;
 //import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class AddressBookModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private AddressBookModelManager modelManager = new AddressBookModelManager();
 
     @Test
@@ -45,6 +56,47 @@ public class AddressBookModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void addAndUpdatePerson_filteredList_keepsPredicate() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        modelManager.addPerson(amy);
+        modelManager.updateFilteredPersonList(new MatchPersonPredicate(Collections.singletonList("Amy")));
+        ObservableList<Person> filteredList = modelManager.getFilteredPersonList();
+
+        // the list given out before the changes follows them, still filtered by the predicate
+        modelManager.addPerson(bob);
+        assertEquals(Collections.singletonList(amy), filteredList);
+
+        Person editedAmy = new PersonBuilder(amy).withPhone("99999999").build();
+        modelManager.updatePerson(amy, editedAmy);
+        assertEquals(1, filteredList.size());
+        assertSame(editedAmy, filteredList.get(0));
+    }
+
+    @Test
+    public void addPerson_raisesEventWithChange() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        modelManager.addPerson(amy);
+
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Change.ADDED, event.change);
+        assertEquals(amy.getId(), event.personId);
+        assertSame(amy, event.person);
+        assertTrue(event.data.getPersonList().contains(amy));
+    }
+
+    @Test
+    public void addPerson_laterChanges_eventDataUnchanged() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        modelManager.addPerson(amy);
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+
+        modelManager.addPerson(bob);
+        assertEquals(Collections.singletonList(amy), event.data.getPersonList());
+    }
+
     /*
     @Test
     public void equals() {
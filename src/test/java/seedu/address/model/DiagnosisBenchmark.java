@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static seedu.address.testutil.BenchmarkUtil.measureNanosPerOp;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.symptom.Disease;
+import seedu.address.model.symptom.Symptom;
+import seedu.address.testutil.BenchmarkUtil;
+
+/**
+ * Compares {@link Diagnosis#predictDisease(Set)} against the full scan it replaced, and measures
+ * {@link Diagnosis#predictDiseaseRanked(Set, int)}, on synthetic datasets of 10k, 100k and 1M diseases.
+ * Run with {@code gradlew benchmark -Pbench=seedu.address.model.DiagnosisBenchmark}.
+ */
+public class DiagnosisBenchmark {
+
+    private static final int[] DATASET_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int VOCABULARY_SIZE = 2_000;
+    private static final int MIN_SYMPTOMS_PER_DISEASE = 4;
+    private static final int MAX_SYMPTOMS_PER_DISEASE = 12;
+    private static final int SYMPTOMS_PER_QUERY = 3;
+    private static final int QUERY_COUNT = 64;
+    private static final int RANKED_LIMIT = 10;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        List<Symptom> vocabulary = new ArrayList<>();
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            vocabulary.add(new Symptom("symptom " + i));
+        }
+
+        for (int size : DATASET_SIZES) {
+            HashMap<Disease, Set<Symptom>> matcher = generateMatcher(size, vocabulary, random);
+            List<Set<Symptom>> queries = generateQueries(matcher, random);
+            Diagnosis diagnosis = new Diagnosis(matcher);
+
+            // the results of both paths must agree before their timings are worth comparing
+            for (Set<Symptom> query : queries) {
+                if (!diagnosis.predictDisease(query).equals(predictByScan(matcher, query))) {
+                    throw new AssertionError("Indexed prediction differs from full scan for " + query);
+                }
+            }
+
+            int[] next = {0};
+            double scanNanos = measureNanosPerOp(3, 5, QUERY_COUNT, () ->
+                    predictByScan(matcher, queries.get(next[0]++ % QUERY_COUNT)).size());
+            double indexNanos = measureNanosPerOp(QUERY_COUNT, () ->
+                    diagnosis.predictDisease(queries.get(next[0]++ % QUERY_COUNT)).size());
+            double rankedNanos = measureNanosPerOp(QUERY_COUNT, () ->
+                    diagnosis.predictDiseaseRanked(queries.get(next[0]++ % QUERY_COUNT), RANKED_LIMIT).size());
+            report("predictDisease (full scan)", size, scanNanos);
+            report("predictDisease (inverted index)", size, indexNanos);
+            report("predictDiseaseRanked (top " + RANKED_LIMIT + ")", size, rankedNanos);
+        }
+        System.out.println("checksum: " + BenchmarkUtil.getBlackhole());
+    }
+
+    /**
+     * Returns the diseases predicted by scanning every disease, as {@code Diagnosis} did before it kept an index.
+     */
+    private static List<Disease> predictByScan(HashMap<Disease, Set<Symptom>> matcher, Set<Symptom> symptoms) {
+        List<Disease> diseases = matcher.keySet().stream()
+                .filter(disease -> matcher.get(disease).containsAll(symptoms)).collect(Collectors.toList());
+        diseases.sort(Comparator.comparing(Disease::toString));
+        return diseases;
+    }
+
+    /**
+     * Generates {@code size} diseases whose symptoms follow a skewed distribution over {@code vocabulary},
+     * so that the dataset has both very common and very rare symptoms like the bundled CSV.
+     */
+    private static HashMap<Disease, Set<Symptom>> generateMatcher(int size, List<Symptom> vocabulary,
+                                                                  Random random) {
+        HashMap<Disease, Set<Symptom>> matcher = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int symptomCount = MIN_SYMPTOMS_PER_DISEASE
+                    + random.nextInt(MAX_SYMPTOMS_PER_DISEASE - MIN_SYMPTOMS_PER_DISEASE + 1);
+            Set<Symptom> symptoms = new HashSet<>();
+            while (symptoms.size() < symptomCount) {
+                double skewed = random.nextDouble() * random.nextDouble();
+                symptoms.add(vocabulary.get((int) (skewed * vocabulary.size())));
+            }
+            matcher.put(new Disease("disease " + i), symptoms);
+        }
+        return matcher;
+    }
+
+    /**
+     * Generates queries made of symptoms taken from random diseases, so that every query has at least one match.
+     */
+    private static List<Set<Symptom>> generateQueries(HashMap<Disease, Set<Symptom>> matcher, Random random) {
+        List<Set<Symptom>> symptomSets = new ArrayList<>(matcher.values());
+        List<Set<Symptom>> queries = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            List<Symptom> symptoms = new ArrayList<>(symptomSets.get(random.nextInt(symptomSets.size())));
+            queries.add(new HashSet<>(symptoms.subList(0, SYMPTOMS_PER_QUERY)));
+        }
+        return queries;
+    }
+}
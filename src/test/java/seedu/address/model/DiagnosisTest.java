@@ -7,16 +7,22 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.model.symptom.Disease;
 import seedu.address.model.symptom.Symptom;
@@ -26,6 +32,9 @@ public class DiagnosisTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private Diagnosis diagnosis = new Diagnosis();
 
     private Disease influenza = new Disease("influenza");
@@ -97,4 +106,89 @@ public class DiagnosisTest {
         assertEquals(Collections.emptyList(), diagnosis.predictDisease(symptomSet));
     }
 
+    @Test
+    public void predictDisease_emptySymptoms_returnsAllDiseases() {
+        assertEquals(diagnosis.getDiseases(), diagnosis.predictDisease(new HashSet<>()));
+    }
+
+    @Test
+    public void predictDisease_matchesFullScan() {
+        HashMap<Disease, Set<Symptom>> matcher = new HashMap<>();
+        matcher.put(influenza, new HashSet<>(Arrays.asList(fever, lipSmacking)));
+        matcher.put(acne, new HashSet<>(Arrays.asList(blackhead, whitehead, fever)));
+        matcher.put(autism, new HashSet<>(Arrays.asList(fever)));
+        Diagnosis inMemoryDiagnosis = new Diagnosis(matcher);
+
+        assertEquals(Arrays.asList(acne, autism, influenza),
+                inMemoryDiagnosis.predictDisease(new HashSet<>(Arrays.asList(fever))));
+        assertEquals(Arrays.asList(acne),
+                inMemoryDiagnosis.predictDisease(new HashSet<>(Arrays.asList(whitehead, fever))));
+        assertEquals(Collections.emptyList(),
+                inMemoryDiagnosis.predictDisease(new HashSet<>(Arrays.asList(whitehead, lipSmacking))));
+    }
+
+    @Test
+    public void predictDiseaseRanked() {
+        HashMap<Disease, Set<Symptom>> matcher = new HashMap<>();
+        matcher.put(influenza, new HashSet<>(Arrays.asList(fever, lipSmacking)));
+        matcher.put(acne, new HashSet<>(Arrays.asList(blackhead, whitehead, fever)));
+        matcher.put(autism, new HashSet<>(Arrays.asList(fever)));
+        Diagnosis inMemoryDiagnosis = new Diagnosis(matcher);
+        Set<Symptom> symptomSet = new HashSet<>(Arrays.asList(fever, whitehead, lipSmacking));
+
+        // no disease has all three symptoms, but influenza shares the largest fraction of them
+        assertEquals(Collections.emptyList(), inMemoryDiagnosis.predictDisease(symptomSet));
+        assertEquals(Arrays.asList(influenza, acne, autism), inMemoryDiagnosis.predictDiseaseRanked(symptomSet, 5));
+        assertEquals(Arrays.asList(influenza, acne), inMemoryDiagnosis.predictDiseaseRanked(symptomSet, 2));
+
+        assertEquals(Collections.emptyList(),
+                inMemoryDiagnosis.predictDiseaseRanked(new HashSet<>(Arrays.asList(new Symptom("cry"))), 5));
+    }
+
+    @Test
+    public void addMatchers_writesAllRecordsOnce() throws Exception {
+        Path csvFile = testFolder.getRoot().toPath().resolve("diagnosis.csv");
+        Files.write(csvFile, "influenza,fever,lip smacking\n".getBytes());
+        Diagnosis fileDiagnosis = new Diagnosis(csvFile);
+
+        Map<Disease, Set<Symptom>> matchers = new HashMap<>();
+        matchers.put(acne, new HashSet<>(Arrays.asList(blackhead, whitehead)));
+        matchers.put(autism, new HashSet<>(Arrays.asList(fever)));
+        matchers.put(influenza, new HashSet<>(Arrays.asList(blackhead)));
+        fileDiagnosis.addMatchers(matchers);
+
+        assertEquals(Arrays.asList(acne, autism, influenza), fileDiagnosis.getDiseases());
+        assertEquals(Arrays.asList(fever, lipSmacking), fileDiagnosis.getSymptoms(influenza));
+        assertEquals(Arrays.asList(acne), fileDiagnosis.predictDisease(new HashSet<>(Arrays.asList(blackhead))));
+        assertEquals(3, Files.readAllLines(csvFile).size());
+
+        // a reload from the file must agree with the incrementally updated data
+        Diagnosis reloadedDiagnosis = new Diagnosis(csvFile);
+        assertEquals(fileDiagnosis.getDiseases(), reloadedDiagnosis.getDiseases());
+        assertEquals(fileDiagnosis.getSymptoms(acne), reloadedDiagnosis.getSymptoms(acne));
+    }
+
+    @Test
+    public void addMatcher_fileModifiedOutsideApp_reloadsFile() throws Exception {
+        Path csvFile = testFolder.getRoot().toPath().resolve("diagnosis.csv");
+        Files.write(csvFile, "influenza,fever,lip smacking\n".getBytes());
+        Diagnosis fileDiagnosis = new Diagnosis(csvFile);
+        Files.write(csvFile, "autism,fever\n".getBytes(), StandardOpenOption.APPEND);
+        assertFalse(fileDiagnosis.hasDisease(autism));
+
+        fileDiagnosis.addMatcher(acne, new HashSet<>(Arrays.asList(blackhead)));
+        assertEquals(Arrays.asList(acne, autism, influenza), fileDiagnosis.getDiseases());
+    }
+
+    @Test
+    public void reloadMatchers() throws Exception {
+        Path csvFile = testFolder.getRoot().toPath().resolve("diagnosis.csv");
+        Files.write(csvFile, "influenza,fever,lip smacking\n".getBytes());
+        Diagnosis fileDiagnosis = new Diagnosis(csvFile);
+        Files.write(csvFile, "acne,blackhead\n".getBytes());
+
+        fileDiagnosis.reloadMatchers();
+        assertEquals(Arrays.asList(acne), fileDiagnosis.getDiseases());
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -14,16 +15,26 @@ public class DrugSearchTest {
 
     private static final int RANDOMIZED_TEST_LENGTH = 8;
     private static final String NOT_IN_DATABASE = "StarbucksCoffee";
-    private static final String TOO_GENERIC_1 = "tablet";
-    private static final String TOO_GENERIC_2 = "hyd";
+    private static final String GENERIC = "tablet";
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
     @Test
-    public void correctResponseTooGeneric() {
-        assertEquals(DrugSearch.find(TOO_GENERIC_1), "Too generic.");
-        assertEquals(DrugSearch.find(TOO_GENERIC_2), "Too generic.");
+    public void genericKeywordResultsLimited() {
+        String results = DrugSearch.find(GENERIC);
+        assertTrue(results.contains("Only the closest 20 results are shown."));
+        assertEquals(DrugSearch.moreInfo(21), "Not in cache.");
+    }
+
+    @Test
+    public void findsDrugDespiteTypo() {
+        assertTrue(DrugSearch.find("glycomt").contains("Name: GLYCOMET"));
+    }
+
+    @Test
+    public void findsDrugByActiveIngredient() {
+        assertTrue(DrugSearch.find("pregabalin").contains("Name: Lyrica Capsule"));
     }
 
     @Test
@@ -52,6 +63,14 @@ public class DrugSearchTest {
         assertEquals(DrugSearch.moreInfo(11), "Not in cache.");
     }
 
+    @Test
+    public void moreInfoRefersToMostRecentSearch() {
+        DrugSearch.find("lyrica");
+        DrugSearch.find("  Glycomet ");
+        assertTrue(DrugSearch.moreInfo(1).startsWith("Name: GLYCOMET"));
+        assertTrue(DrugSearch.moreInfo(1).contains("ATC Code: A10BA02"));
+    }
+
     /**
      * Generates random, purely alphabetical strings of a given length.
      *
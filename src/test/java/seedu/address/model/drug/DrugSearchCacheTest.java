@@ -0,0 +1,59 @@
+package seedu.address.model.drug;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class DrugSearchCacheTest {
+
+    private final AtomicInteger searchCount = new AtomicInteger();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new DrugSearchCache(0));
+    }
+
+    @Test
+    public void computeIfAbsent_repeatedQuery_searchesOnce() {
+        DrugSearchCache cache = new DrugSearchCache(2);
+        assertArrayEquals(new int[] {1, 2}, cache.computeIfAbsent("panadol", this::search));
+        assertArrayEquals(new int[] {1, 2}, cache.computeIfAbsent("panadol", this::search));
+
+        assertEquals(1, searchCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void computeIfAbsent_overCapacity_evictsLeastRecentlyUsed() {
+        DrugSearchCache cache = new DrugSearchCache(2);
+        cache.computeIfAbsent("panadol", this::search);
+        cache.computeIfAbsent("lyrica", this::search);
+        cache.computeIfAbsent("panadol", this::search);
+        cache.computeIfAbsent("glycomet", this::search);
+        assertEquals(2, cache.size());
+
+        // lyrica was the least recently used, so it is searched for again while panadol is not
+        cache.computeIfAbsent("panadol", this::search);
+        assertEquals(3, searchCount.get());
+        cache.computeIfAbsent("lyrica", this::search);
+        assertEquals(4, searchCount.get());
+    }
+
+    @Test
+    public void computeIfAbsent_returnedRowsModified_cacheUnchanged() {
+        DrugSearchCache cache = new DrugSearchCache(1);
+        cache.computeIfAbsent("panadol", this::search)[0] = 42;
+        assertArrayEquals(new int[] {1, 2}, cache.computeIfAbsent("panadol", this::search));
+    }
+
+    private int[] search(String query) {
+        searchCount.incrementAndGet();
+        return new int[] {1, 2};
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.drug;
+
+import static seedu.address.testutil.BenchmarkUtil.measureNanosPerOp;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import seedu.address.commons.util.DrugCsvUtil;
+import seedu.address.testutil.BenchmarkUtil;
+
+/**
+ * Compares finding drugs by name through a {@link TrigramIndex} of the product names in a {@link DrugTable} against
+ * parsing the dataset with {@link DrugCsvUtil} on every search, as {@code DrugSearch} did before it kept the dataset
+ * in memory, and measures the typo tolerant {@link DrugTable#search(String, int)}.
+ * Run with {@code gradlew benchmark -Pbench=seedu.address.model.drug.DrugTableBenchmark}.
+ */
+public class DrugTableBenchmark {
+
+    private static final String[] KEYWORDS = {"glycomet", "lyrica", "panadol", "amox", "vitamin", "zz", "mg"};
+    private static final String[] FUZZY_QUERIES = {"glycomt", "pregabalin", "paracetamol", "a10ba", "pfizer",
+        "amoxicilin", "tablet"};
+    private static final int SEARCH_LIMIT = 20;
+
+    public static void main(String[] args) throws IOException {
+        long loadStart = System.nanoTime();
+        DrugTable table = DrugTable.getInstance();
+        report("DrugTable first use (parse and index)", table.size(), System.nanoTime() - loadStart);
+        String[] lowerCaseNames = new String[table.size()];
+        for (int row = 0; row < table.size(); row++) {
+            lowerCaseNames[row] = table.get(row, DrugTable.PRODUCT_NAME).toLowerCase();
+        }
+        TrigramIndex nameIndex = new TrigramIndex(lowerCaseNames);
+
+        // the results of both paths must agree before their timings are worth comparing
+        for (String keyword : KEYWORDS) {
+            if (nameIndex.positionsContaining(keyword).length != searchByScan(keyword)) {
+                throw new AssertionError("Indexed search differs from full scan for " + keyword);
+            }
+        }
+
+        int[] next = {0};
+        double scanNanos = measureNanosPerOp(3, 5, KEYWORDS.length, () ->
+                searchByScan(KEYWORDS[next[0]++ % KEYWORDS.length]));
+        double indexNanos = measureNanosPerOp(1000 * KEYWORDS.length, () ->
+                nameIndex.positionsContaining(KEYWORDS[next[0]++ % KEYWORDS.length]).length);
+        double searchNanos = measureNanosPerOp(1000 * FUZZY_QUERIES.length, () ->
+                table.search(FUZZY_QUERIES[next[0]++ % FUZZY_QUERIES.length], SEARCH_LIMIT).length);
+        report("find drug (csv scan)", table.size(), scanNanos);
+        report("find drug (trigram index)", table.size(), indexNanos);
+        report("find drug (fuzzy, 4 columns, top " + SEARCH_LIMIT + ")", table.size(), searchNanos);
+        System.out.println("checksum: " + BenchmarkUtil.getBlackhole());
+    }
+
+    /**
+     * Returns the number of drugs whose name contains {@code keyword}, by parsing the whole dataset.
+     */
+    private static int searchByScan(String keyword) {
+        try {
+            int matches = 0;
+            for (String[] entry : DrugCsvUtil.readAllEntries()) {
+                if (entry[DrugTable.PRODUCT_NAME].toLowerCase().contains(keyword)) {
+                    matches++;
+                }
+            }
+            return matches;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.drug;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DrugTableTest {
+
+    private final DrugTable table = new DrugTable(Arrays.asList(
+            record("Panadol Tablet", "GLAXOSMITHKLINE", "N02BE01", "PARACETAMOL"),
+            record("Glycomet Tablet 500 mg", "ZYFAS MEDICAL CO", "A10BA02", "METFORMIN HCl"),
+            record("Paracetamol Syrup", "PANADOL HOLDINGS", "N02BE01", "PARACETAMOL"),
+            record("Metformin Tablet", "APEX PHARMA", "A10BA02", "METFORMIN HCl")));
+
+    @Test
+    public void search_multipleColumns_rankedByColumn() {
+        // a product name match ranks above an active ingredient match, which ranks above a license holder match
+        assertArrayEquals(new int[] {3, 1}, table.search("metformin", 5));
+        assertArrayEquals(new int[] {0, 2}, table.search("Panadol", 5));
+        assertArrayEquals(new int[] {2, 0}, table.search("paracetamol", 5));
+    }
+
+    @Test
+    public void search_typo_rankedBelowExactMatches() {
+        assertArrayEquals(new int[] {0, 2}, table.search("panadl", 5));
+        assertArrayEquals(new int[] {3, 1}, table.search("metfromin", 5));
+    }
+
+    @Test
+    public void search_atcCode() {
+        assertArrayEquals(new int[] {0, 2}, table.search("n02be", 5));
+    }
+
+    @Test
+    public void search_limit_keepsBestRows() {
+        assertArrayEquals(new int[] {0, 1, 3}, table.search("tablet", 5));
+        assertArrayEquals(new int[] {0, 1}, table.search("tablet", 2));
+        assertArrayEquals(new int[] {3}, table.search("metformin", 1));
+        assertArrayEquals(new int[] {2}, table.search("paracetamol", 1));
+        assertArrayEquals(new int[0], table.search("metformin", 0));
+    }
+
+    @Test
+    public void search_repeated_sameRows() {
+        // the ranks kept between searches start over for every search
+        assertArrayEquals(new int[] {0, 2}, table.search("panadl", 5));
+        assertArrayEquals(new int[] {3, 1}, table.search("metformin", 5));
+        assertArrayEquals(new int[] {0, 2}, table.search("panadl", 5));
+    }
+
+    @Test
+    public void getRecord() {
+        assertEquals("Glycomet Tablet 500 mg", table.getRecord(1)[DrugTable.PRODUCT_NAME]);
+        assertEquals("METFORMIN HCl", table.get(1, DrugTable.ACTIVE_INGREDIENTS));
+    }
+
+    private static String[] record(String productName, String licenseHolder, String atcCode,
+                                   String activeIngredients) {
+        List<String> record = Arrays.asList("SIN00000P", productName, licenseHolder, "1/1/2000", "Prescription Only",
+                atcCode, "TABLET", "ORAL", "MANUFACTURER", "SINGAPORE", activeIngredients, "500 mg");
+        return record.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.drug;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TrigramIndexTest {
+
+    private static final int NO_MATCH = -1;
+
+    private final TrigramIndex index = new TrigramIndex(new String[] {
+        "panadol tablet", "panadol extra", "glycomet 500", "aaaa", "lyrica capsule"
+    });
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new TrigramIndex(null));
+    }
+
+    @Test
+    public void positionsContaining_longSubstring_returnsAscendingMatches() {
+        assertArrayEquals(new int[] {0, 1}, index.positionsContaining("panadol"));
+        assertArrayEquals(new int[] {0}, index.positionsContaining("tablet"));
+        assertArrayEquals(new int[] {2}, index.positionsContaining("comet 5"));
+        assertArrayEquals(new int[] {3}, index.positionsContaining("aaa"));
+    }
+
+    @Test
+    public void positionsContaining_trigramsPresentButNotContiguous_noMatch() {
+        // "dol" and "ext" both occur in "panadol extra", but not as "dolext"
+        assertArrayEquals(new int[0], index.positionsContaining("dolext"));
+        assertArrayEquals(new int[0], index.positionsContaining("zzz"));
+    }
+
+    @Test
+    public void positionsContaining_shortSubstring_scansAllValues() {
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, index.positionsContaining(""));
+        assertArrayEquals(new int[] {2, 4}, index.positionsContaining("ly"));
+    }
+
+    @Test
+    public void forEachWithin_typos_returnsSmallestSubstringDistance() {
+        int[] distances = distancesWithin("panadl", 1);
+        assertArrayEquals(new int[] {1, 1, NO_MATCH, NO_MATCH, NO_MATCH}, distances);
+
+        distances = distancesWithin("lyricca capsle", 2);
+        assertArrayEquals(new int[] {NO_MATCH, NO_MATCH, NO_MATCH, NO_MATCH, 2}, distances);
+
+        distances = distancesWithin("glycomet", 2);
+        assertArrayEquals(new int[] {NO_MATCH, NO_MATCH, 0, NO_MATCH, NO_MATCH}, distances);
+    }
+
+    @Test
+    public void forEachWithin_zeroMaxDistance_matchesExactly() {
+        assertArrayEquals(new int[] {0, 0, NO_MATCH, NO_MATCH, NO_MATCH}, distancesWithin("panadol", 0));
+        assertArrayEquals(new int[] {NO_MATCH, NO_MATCH, NO_MATCH, NO_MATCH, NO_MATCH},
+                distancesWithin("panadl", 0));
+    }
+
+    @Test
+    public void forEachWithin_afterApproximateQuery_nextQueryUnaffected() {
+        distancesWithin("panadl", 1);
+        assertArrayEquals(new int[] {1, 1, NO_MATCH, NO_MATCH, NO_MATCH}, distancesWithin("panadl", 1));
+
+        // a visitor failing part way through a query does not leave counts behind for the next query
+        Assert.assertThrows(IllegalStateException.class, () ->
+                index.forEachWithin("panadl", 1, (position, distance) -> {
+                    throw new IllegalStateException();
+                }));
+        assertArrayEquals(new int[] {1, 1, NO_MATCH, NO_MATCH, NO_MATCH}, distancesWithin("panadl", 1));
+    }
+
+    /**
+     * Returns, for every value of the index, the distance which {@link TrigramIndex#forEachWithin} visits it with,
+     * or {@link #NO_MATCH} if it is not visited.
+     */
+    private int[] distancesWithin(String query, int maxDistance) {
+        int[] distances = new int[5];
+        Arrays.fill(distances, NO_MATCH);
+        index.forEachWithin(query, maxDistance, (position, distance) -> {
+            assertEquals(NO_MATCH, distances[position]);
+            distances[position] = distance;
+        });
+        return distances;
+    }
+}
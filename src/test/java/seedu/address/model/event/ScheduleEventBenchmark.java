@@ -0,0 +1,156 @@
+package seedu.address.model.event;
+
+import static seedu.address.testutil.BenchmarkUtil.measureNanosPerOp;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.address.commons.util.Pair;
+import seedu.address.testutil.BenchmarkUtil;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+/**
+ * Measures sorting events by start time and checking a time slot for clashes, with events holding their time slot
+ * as epoch milliseconds against events holding it as a {@code Pair<Calendar>} in an attribute map, as
+ * {@link ScheduleEvent} did before. Also measures the clash query of {@link UniqueScheduleEventList}.
+ * Run with {@code gradlew benchmark -Pbench=seedu.address.model.event.ScheduleEventBenchmark}.
+ */
+public class ScheduleEventBenchmark {
+
+    private static final int[] SCHEDULE_SIZES = {1_000, 10_000, 100_000};
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final int SLOT_COUNT = 64;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        long firstStart = new Calendar.Builder().setDate(2018, Calendar.JANUARY, 1).build().getTimeInMillis();
+
+        for (int size : SCHEDULE_SIZES) {
+            List<ScheduleEvent> events = new ArrayList<>();
+            List<CalendarEvent> calendarEvents = new ArrayList<>();
+            UniqueScheduleEventList eventList = new UniqueScheduleEventList();
+            for (int i = 0; i < size; i++) {
+                // appointments of 15 to 120 minutes, anywhere within about a year of half-hour slots
+                long start = firstStart + random.nextInt(size * 2) * 30 * MINUTE_MILLIS;
+                Pair<Calendar> duration = duration(start, start + (15 + random.nextInt(106)) * MINUTE_MILLIS);
+                ScheduleEvent event = new ScheduleEventBuilder().withDurations(duration).build();
+                events.add(event);
+                calendarEvents.add(new CalendarEvent(duration));
+                eventList.add(event);
+            }
+            List<Pair<Calendar>> slots = new ArrayList<>();
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                long start = firstStart + random.nextInt(size * 2) * 30 * MINUTE_MILLIS;
+                slots.add(duration(start, start + 30 * MINUTE_MILLIS));
+            }
+
+            // both representations must agree before their timings are worth comparing
+            for (Pair<Calendar> slot : slots) {
+                int clashCount = 0;
+                for (int i = 0; i < size; i++) {
+                    boolean isClashing = events.get(i).isClashing(slot);
+                    if (isClashing != calendarEvents.get(i).isClashing(slot)) {
+                        throw new AssertionError("Clash checks differ for event " + i);
+                    }
+                    clashCount += isClashing ? 1 : 0;
+                }
+                if (clashCount != eventList.getEventsClashingWith(slot).size()) {
+                    throw new AssertionError("Indexed clash query differs from full scan");
+                }
+            }
+
+            int[] next = {0};
+            Comparator<ScheduleEvent> byStart = Comparator.comparingLong(ScheduleEvent::getStartMillis);
+            Comparator<CalendarEvent> byStartCalendar = (first, second) ->
+                    first.getDate().getKey().compareTo(second.getDate().getKey());
+            double calendarSortNanos = measureNanosPerOp(3, 5, 4, () ->
+                    shuffledSort(calendarEvents, byStartCalendar, next[0]++));
+            double epochSortNanos = measureNanosPerOp(3, 5, 4, () -> shuffledSort(events, byStart, next[0]++));
+            double calendarClashNanos = measureNanosPerOp(SLOT_COUNT, () -> {
+                Pair<Calendar> slot = slots.get(next[0]++ % SLOT_COUNT);
+                int clashCount = 0;
+                for (CalendarEvent event : calendarEvents) {
+                    clashCount += event.isClashing(slot) ? 1 : 0;
+                }
+                return clashCount;
+            });
+            double epochClashNanos = measureNanosPerOp(SLOT_COUNT, () -> {
+                Pair<Calendar> slot = slots.get(next[0]++ % SLOT_COUNT);
+                long start = slot.getKey().getTimeInMillis();
+                long end = slot.getValue().getTimeInMillis();
+                int clashCount = 0;
+                for (ScheduleEvent event : events) {
+                    clashCount += event.isClashing(start, end) ? 1 : 0;
+                }
+                return clashCount;
+            });
+            double indexedClashNanos = measureNanosPerOp(SLOT_COUNT, () ->
+                    eventList.getEventsClashingWith(slots.get(next[0]++ % SLOT_COUNT)).size());
+            report("sort by start (Calendar pair)", size, calendarSortNanos);
+            report("sort by start (epoch millis)", size, epochSortNanos);
+            report("clash scan (Calendar pair)", size, calendarClashNanos);
+            report("clash scan (epoch millis)", size, epochClashNanos);
+            report("clash query (start time index)", size, indexedClashNanos);
+        }
+        System.out.println("checksum: " + BenchmarkUtil.getBlackhole());
+    }
+
+    /**
+     * Sorts a copy of {@code events} shuffled with {@code seed}, and returns a value depending on the result.
+     */
+    private static <T> int shuffledSort(List<T> events, Comparator<T> comparator, int seed) {
+        List<T> copy = new ArrayList<>(events);
+        Collections.shuffle(copy, new Random(seed));
+        copy.sort(comparator);
+        return copy.get(0).hashCode();
+    }
+
+    private static Pair<Calendar> duration(long startMillis, long endMillis) {
+        Calendar start = Calendar.getInstance();
+        start.setTimeInMillis(startMillis);
+        Calendar end = Calendar.getInstance();
+        end.setTimeInMillis(endMillis);
+        return new Pair<>(start, end);
+    }
+
+    /**
+     * The time slot of an event as {@code ScheduleEvent} held it before it kept epoch milliseconds.
+     */
+    private static class CalendarEvent {
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        CalendarEvent(Pair<Calendar> date) {
+            attributes.put("datetime", new Pair<>(date.getKey(), date.getValue()));
+        }
+
+        Pair<Calendar> getDate() {
+            Pair<?> returnedDate = (Pair<?>) attributes.get("datetime");
+            return new Pair<>((Calendar) returnedDate.getKey(), (Calendar) returnedDate.getValue());
+        }
+
+        boolean isClashing(Pair<Calendar> duration) {
+            boolean isClashing = false;
+            Calendar thisStart = this.getDate().getKey();
+            Calendar thisEnd = this.getDate().getValue();
+            Calendar otherStart = duration.getKey();
+            Calendar otherEnd = duration.getValue();
+            if (thisStart.equals(otherStart)) {
+                isClashing = true;
+            }
+            if (thisStart.before(otherStart) && otherStart.before(thisEnd)) {
+                isClashing = true;
+            }
+            if (otherStart.before(thisStart) && thisStart.before(otherEnd)) {
+                isClashing = true;
+            }
+            return isClashing;
+        }
+    }
+}
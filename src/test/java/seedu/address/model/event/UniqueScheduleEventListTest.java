@@ -0,0 +1,190 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.Pair;
+import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+public class UniqueScheduleEventListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueScheduleEventList uniqueScheduleEventList = new UniqueScheduleEventList();
+
+    @Test
+    public void getEventsWithin_nullRange_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueScheduleEventList.getEventsWithin(null);
+    }
+
+    @Test
+    public void getEventsWithin_eventsAddedOutOfOrder_returnsEventsInRangeSortedByStart() {
+        ScheduleEvent late = event(10, 14, 15);
+        ScheduleEvent early = event(10, 9, 10);
+        ScheduleEvent overlappingRangeEnd = event(10, 17, 19);
+        ScheduleEvent otherDay = event(11, 9, 10);
+        uniqueScheduleEventList.setScheduleEvents(Arrays.asList(late, otherDay, overlappingRangeEnd));
+        uniqueScheduleEventList.add(early);
+
+        assertEquals(Arrays.asList(early, late), uniqueScheduleEventList.getEventsWithin(duration(10, 9, 18)));
+        assertEquals(Arrays.asList(early, late, overlappingRangeEnd, otherDay),
+                uniqueScheduleEventList.getEventsWithin(duration(10, 0, 24 * 2)));
+        assertTrue(uniqueScheduleEventList.getEventsWithin(duration(12, 9, 18)).isEmpty());
+    }
+
+    @Test
+    public void getEventsClashingWith_longEventStartingEarlier_found() {
+        ScheduleEvent allDay = event(10, 8, 20);
+        ScheduleEvent morning = event(10, 9, 10);
+        ScheduleEvent afternoon = event(10, 14, 15);
+        uniqueScheduleEventList.setScheduleEvents(Arrays.asList(afternoon, allDay, morning));
+
+        assertEquals(Arrays.asList(allDay, afternoon),
+                uniqueScheduleEventList.getEventsClashingWith(duration(10, 13, 15)));
+        // events which only touch the given duration do not clash with it
+        assertEquals(Collections.singletonList(allDay),
+                uniqueScheduleEventList.getEventsClashingWith(duration(10, 10, 14)));
+        assertTrue(uniqueScheduleEventList.getEventsClashingWith(duration(10, 20, 21)).isEmpty());
+    }
+
+    @Test
+    public void getEventsClashingWith_afterUpdateAndRemove_indexFollowsList() {
+        ScheduleEvent allDay = event(10, 8, 20);
+        ScheduleEvent morning = event(10, 9, 10);
+        uniqueScheduleEventList.add(allDay);
+        uniqueScheduleEventList.add(morning);
+
+        ScheduleEvent rescheduled = new ScheduleEvent(morning.getId(), duration(11, 9, 10),
+                morning.getPersonId(), morning.getDetails(), morning.getTags());
+        uniqueScheduleEventList.setScheduleEvent(morning, rescheduled);
+        assertEquals(Collections.singletonList(allDay),
+                uniqueScheduleEventList.getEventsClashingWith(duration(10, 9, 10)));
+        assertEquals(Collections.singletonList(rescheduled),
+                uniqueScheduleEventList.getEventsClashingWith(duration(11, 9, 10)));
+
+        uniqueScheduleEventList.remove(allDay);
+        assertTrue(uniqueScheduleEventList.getEventsClashingWith(duration(10, 12, 13)).isEmpty());
+    }
+
+    @Test
+    public void removeAllForPerson_eventsOfPerson_removedInOneChange() {
+        ScheduleEvent first = new ScheduleEventBuilder().withPersonId("p1").build();
+        ScheduleEvent other = new ScheduleEventBuilder().withPersonId("p2").build();
+        ScheduleEvent second = new ScheduleEventBuilder().withPersonId("p1").build();
+        uniqueScheduleEventList.setScheduleEvents(Arrays.asList(first, other));
+        uniqueScheduleEventList.add(second);
+
+        AtomicInteger changeCount = new AtomicInteger();
+        uniqueScheduleEventList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<ScheduleEvent>) change -> changeCount.incrementAndGet());
+
+        PersonId personId = new PersonId("p1", false);
+        assertEquals(Arrays.asList(first, second), uniqueScheduleEventList.removeAllForPerson(personId));
+        assertEquals(1, changeCount.get());
+        assertEquals(Collections.singletonList(other), uniqueScheduleEventList.asUnmodifiableObservableList());
+
+        // nothing is left to remove, so the list does not change
+        assertTrue(uniqueScheduleEventList.removeAllForPerson(personId).isEmpty());
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void getEventsWithTag_afterUpdateAndRemove_indexFollowsList() {
+        ScheduleEvent checkup = new ScheduleEventBuilder().withTags("checkup").build();
+        ScheduleEvent followUp = new ScheduleEventBuilder().withTags("checkup", "urgent").build();
+        uniqueScheduleEventList.setScheduleEvents(Arrays.asList(checkup, followUp));
+        Tag checkupTag = new Tag("checkup");
+        Tag urgentTag = new Tag("urgent");
+
+        assertEquals(Arrays.asList(checkup, followUp), uniqueScheduleEventList.getEventsWithTag(checkupTag));
+        assertEquals(Collections.singletonList(followUp), uniqueScheduleEventList.getEventsWithTag(urgentTag));
+
+        ScheduleEvent untagged = new ScheduleEvent(followUp.getId(), followUp.getDate(),
+                followUp.getPersonId(), followUp.getDetails(), Collections.emptySet());
+        uniqueScheduleEventList.setScheduleEvent(followUp, untagged);
+        assertEquals(Collections.singletonList(checkup), uniqueScheduleEventList.getEventsWithTag(checkupTag));
+        assertTrue(uniqueScheduleEventList.getEventsWithTag(urgentTag).isEmpty());
+
+        uniqueScheduleEventList.remove(checkup);
+        assertTrue(uniqueScheduleEventList.getEventsWithTag(checkupTag).isEmpty());
+    }
+
+    @Test
+    public void getEventsForPerson_afterAdd_returnsEventsOfPersonOnly() {
+        ScheduleEvent first = new ScheduleEventBuilder().withPersonId("p1").build();
+        ScheduleEvent other = new ScheduleEventBuilder().withPersonId("p2").build();
+        ScheduleEvent second = new ScheduleEventBuilder().withPersonId("p1").build();
+        uniqueScheduleEventList.setScheduleEvents(Arrays.asList(first, other));
+        uniqueScheduleEventList.add(second);
+
+        assertEquals(Arrays.asList(first, second),
+                uniqueScheduleEventList.getEventsForPerson(new PersonId("p1", false)));
+        assertTrue(uniqueScheduleEventList.getEventsForPerson(new PersonId("p3", false)).isEmpty());
+    }
+
+    @Test
+    public void getScheduleEvent_existingId_returnsEvent() {
+        ScheduleEvent event = new ScheduleEventBuilder().build();
+        uniqueScheduleEventList.add(event);
+        assertEquals(event, uniqueScheduleEventList.getScheduleEvent(event.getId()));
+    }
+
+    @Test
+    public void getScheduleEvent_removedId_throwsScheduleEventNotFoundException() {
+        ScheduleEvent event = new ScheduleEventBuilder().build();
+        uniqueScheduleEventList.add(event);
+        uniqueScheduleEventList.remove(event);
+        thrown.expect(ScheduleEventNotFoundException.class);
+        uniqueScheduleEventList.getScheduleEvent(event.getId());
+    }
+
+    @Test
+    public void setScheduleEvent_afterEarlierEventRemoved_replacedInPlace() {
+        ScheduleEvent first = new ScheduleEventBuilder().build();
+        ScheduleEvent second = new ScheduleEventBuilder().build();
+        ScheduleEvent third = new ScheduleEventBuilder().build();
+        uniqueScheduleEventList.setScheduleEvents(Arrays.asList(first, second, third));
+        uniqueScheduleEventList.remove(first);
+
+        // the events after the removed one moved up, and are still found at their new positions
+        ScheduleEvent editedThird = new ScheduleEvent(third.getId(), third.getDate(), third.getPersonId(),
+                "Follow up", third.getTags());
+        uniqueScheduleEventList.setScheduleEvent(third, editedThird);
+        assertEquals(Arrays.asList(second, editedThird), uniqueScheduleEventList.asUnmodifiableObservableList());
+        assertSame(editedThird, uniqueScheduleEventList.getScheduleEvent(third.getId()));
+
+        uniqueScheduleEventList.remove(second);
+        assertEquals(Collections.singletonList(editedThird), uniqueScheduleEventList.asUnmodifiableObservableList());
+    }
+
+    private static ScheduleEvent event(int day, int startHour, int endHour) {
+        return new ScheduleEventBuilder().withDurations(duration(day, startHour, endHour)).build();
+    }
+
+    /**
+     * Returns the duration from {@code startHour} to {@code endHour} of the given day of December 2018.
+     */
+    private static Pair<Calendar> duration(int day, int startHour, int endHour) {
+        Calendar start = Calendar.getInstance();
+        start.clear();
+        start.set(2018, Calendar.DECEMBER, day, startHour, 0, 0);
+        Calendar end = (Calendar) start.clone();
+        end.add(Calendar.HOUR_OF_DAY, endHour - startHour);
+        return new Pair<>(start, end);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static seedu.address.testutil.BenchmarkUtil.measureRetainedBytesPerObject;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reports the heap retained by each {@link Person} record beyond its field values, against records laid out
+ * as {@code Person} did before it kept its fields in final fields with a pooled tag set.
+ * The field values are allocated up front and kept alive, so only the record layout is measured.
+ * Fails if a person retains {@link #MAX_BYTES_PER_RECORD} bytes or more. Heap usage after {@code System.gc()} is
+ * too noisy for a unit test, so {@code PersonTest} checks the layout itself instead.
+ * Run with {@code gradlew benchmark -Pbench=seedu.address.model.person.PersonFootprintBenchmark}.
+ */
+public class PersonFootprintBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+    // about 110 bytes with final fields and pooled tag sets, against more than 500 with an attribute map
+    private static final double MAX_BYTES_PER_RECORD = 200;
+    private static final String[] TAG_NAMES = {"diabetic", "allergic", "elderly", "outpatient", "followUp"};
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        List<Name> names = new ArrayList<>();
+        List<Phone> phones = new ArrayList<>();
+        List<Email> emails = new ArrayList<>();
+        List<Address> addresses = new ArrayList<>();
+        List<Set<Tag>> tagSets = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            names.add(new Name("Patient " + i));
+            phones.add(new Phone(String.valueOf(80000000 + i)));
+            emails.add(new Email("patient" + i + "@example.com"));
+            addresses.add(new Address(i + " Clementi Ave " + (i % 7)));
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : TAG_NAMES) {
+                if (random.nextInt(4) == 0) {
+                    tags.add(new Tag(tagName));
+                }
+            }
+            tagSets.add(tags);
+        }
+
+        double mapBytes = measureRetainedBytesPerObject(RECORD_COUNT, i -> new MapPerson(new PersonId(),
+                names.get(i), phones.get(i), emails.get(i), addresses.get(i), tagSets.get(i)));
+        double fieldBytes = measureRetainedBytesPerObject(RECORD_COUNT, i -> new Person(new PersonId(),
+                names.get(i), phones.get(i), emails.get(i), addresses.get(i), true, tagSets.get(i)));
+        report("attribute map layout", RECORD_COUNT, mapBytes, "bytes/record");
+        report("field layout", RECORD_COUNT, fieldBytes, "bytes/record");
+        System.out.println("values kept: " + (names.size() + phones.size() + emails.size() + addresses.size()
+                + tagSets.size()));
+        if (fieldBytes >= MAX_BYTES_PER_RECORD) {
+            throw new AssertionError("Each person retains " + fieldBytes + " bytes, past the bound of "
+                    + MAX_BYTES_PER_RECORD);
+        }
+    }
+
+    /**
+     * A record laid out as {@code Person} was before, with its values in an attribute map and its own tag set.
+     */
+    private static class MapPerson {
+        private enum PersonProperty {
+            NAME, PHONE, EMAIL, ADDRESS, TAGS
+        }
+
+        private final HashMap<PersonProperty, Object> attributes = new HashMap<>();
+        private final PersonId id;
+        private boolean exists = true;
+
+        MapPerson(PersonId id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+            this.id = id;
+            attributes.put(PersonProperty.NAME, name);
+            attributes.put(PersonProperty.PHONE, phone);
+            attributes.put(PersonProperty.EMAIL, email);
+            attributes.put(PersonProperty.ADDRESS, address);
+            attributes.put(PersonProperty.TAGS, new HashSet<>(tags));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PersonIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new PersonId(null, false));
+    }
+
+    @Test
+    public void constructor_string_sameAsNumber() {
+        PersonId id = new PersonId("p12", false);
+        assertEquals(12, id.getNumber());
+        assertEquals("p12", id.toString());
+        assertEquals(new PersonId(12, false), id);
+        assertEquals(new PersonId(12, false).hashCode(), id.hashCode());
+        assertNotEquals(new PersonId(13, false), id);
+    }
+
+    @Test
+    public void constructor_changeMinId_newIdsAfterExistingOne() {
+        PersonId existing = new PersonId(new PersonId().getNumber() + 100, true);
+        assertTrue(new PersonId().getNumber() > existing.getNumber());
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(PersonId.isValidId("")); // empty string
+        assertFalse(PersonId.isValidId("12")); // no prefix
+        assertFalse(PersonId.isValidId("e12")); // event prefix
+        assertTrue(PersonId.isValidId("p12"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -10,6 +11,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -18,6 +26,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
+    // the id, the four values, the pooled tag set and whether the person exists, each in a field of its own
+    private static final int MAX_PERSON_FIELDS = 7;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -28,6 +39,19 @@ public class PersonTest {
         person.getTags().remove(0);
     }
 
+    @Test
+    public void layout_valuesInFieldsAndTagsShared_noPerPersonCollections() {
+        List<Field> fields = Arrays.stream(Person.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .collect(Collectors.toList());
+        assertTrue("Person has " + fields.size() + " fields", fields.size() <= MAX_PERSON_FIELDS);
+        assertTrue(fields.stream().noneMatch(field -> Map.class.isAssignableFrom(field.getType())));
+
+        Person person = new PersonBuilder().withTags(VALID_TAG_HUSBAND).build();
+        Person otherPerson = new PersonBuilder().withName(VALID_NAME_BOB).withTags(VALID_TAG_HUSBAND).build();
+        assertSame(person.getTags(), otherPerson.getTags());
+    }
+
     @Test
     public void deleteDeletedPerson_throwsPersonNotFoundException() {
         Person samplePerson = new PersonBuilder(ALICE).build();
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +20,7 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -120,6 +122,45 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void getPerson_nullPersonId_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniquePersonList.getPerson(null);
+    }
+
+    @Test
+    public void getPerson_personIdNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.getPerson(BOB.getId());
+    }
+
+    @Test
+    public void getPerson_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getId()));
+    }
+
+    @Test
+    public void getPerson_afterSetPersonWithDifferentIdentity_findsEditedPersonOnly() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getId()));
+        assertFalse(uniquePersonList.contains(ALICE));
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.getPerson(ALICE.getId());
+    }
+
+    @Test
+    public void getPerson_afterSetPersons_findsReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getId()));
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.getPerson(ALICE.getId());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -182,10 +223,123 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsDuplicateIds() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BOB, ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        thrown.expectMessage("IDs: " + ALICE.getId() + ", " + BOB.getId());
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+
+    @Test
+    public void setPersons_records_personsCreatedOnlyWhenAskedFor() {
+        CountingRecords records = new CountingRecords(10_000);
+        uniquePersonList.setPersons(records);
+        ObservableList<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(10_000, persons.size());
+        assertTrue(uniquePersonList.contains(records.createPerson(5_000)));
+        assertEquals(0, records.getCreatedCount());
+
+        assertEquals(records.createPerson(42), persons.get(42));
+        assertEquals(records.createPerson(42), uniquePersonList.getPerson(records.createPerson(42).getId()));
+        assertEquals(1, records.getCreatedCount());
+    }
+
+    @Test
+    public void setPersons_records_changesKeptAfterPersonsLeaveCache() {
+        CountingRecords records = new CountingRecords(5_000);
+        uniquePersonList.setPersons(records);
+        Person edited = new Person(records.createPerson(4).getId(), new Name("Edited Name"), new Phone("999"),
+                new Email("edited@example.com"), new Address("Edited Address"), true, Collections.emptySet());
+        uniquePersonList.remove(records.createPerson(3));
+        uniquePersonList.setPerson(records.createPerson(4), edited);
+        uniquePersonList.add(BOB);
+
+        // reading every person pushes the changed ones out of the cache, if they were kept there
+        uniquePersonList.forEach(Person::getName);
+        ObservableList<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertFalse(persons.get(3).getExists());
+        assertEquals(edited.getName(), persons.get(4).getName());
+        assertEquals(BOB, persons.get(5_000));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_uniquePersonListWithRecords_sharesRecords() {
+        CountingRecords records = new CountingRecords(1_000);
+        uniquePersonList.setPersons(records);
+        uniquePersonList.add(BOB);
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        assertEquals(0, records.getCreatedCount());
+        assertTrue(copy.contains(BOB));
+        assertTrue(copy.contains(records.createPerson(999)));
+        assertEquals(uniquePersonList, copy);
+    }
+
+    @Test
+    public void copyAsUnmodifiableObservableList_records_sharedAndUnaffectedByLaterChanges() {
+        CountingRecords records = new CountingRecords(1_000);
+        uniquePersonList.setPersons(records);
+        uniquePersonList.add(BOB);
+        ObservableList<Person> copy = uniquePersonList.copyAsUnmodifiableObservableList();
+        assertEquals(0, records.getCreatedCount());
+
+        Person edited = new Person(records.createPerson(7).getId(), new Name("Edited Name"), new Phone("999"),
+                new Email("edited@example.com"), new Address("Edited Address"), true, Collections.emptySet());
+        uniquePersonList.setPerson(records.createPerson(7), edited);
+        uniquePersonList.add(ALICE);
+        assertEquals(1_001, copy.size());
+        assertEquals(records.createPerson(7).getName(), copy.get(7).getName());
+        assertEquals(BOB, copy.get(1_000));
+    }
 
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asUnmodifiableObservableList().remove(0);
     }
+
+    /**
+     * Records of persons which are created from their position, and counted as they are asked for.
+     */
+    private static class CountingRecords implements PersonRecords {
+        private static final int FIRST_ID = 1_000_000;
+        private static final Set<Tag> NO_TAGS = Collections.emptySet();
+
+        private final int count;
+        private int createdCount;
+
+        CountingRecords(int count) {
+            this.count = count;
+        }
+
+        Person createPerson(int index) {
+            return new Person(new PersonId(FIRST_ID + index, false), new Name("Patient " + index),
+                    new Phone(String.valueOf(90_000_000 + index)), new Email("patient" + index + "@example.com"),
+                    new Address(index + " Clementi Ave 3"), true, NO_TAGS);
+        }
+
+        int getCreatedCount() {
+            return createdCount;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public Person get(int index) {
+            createdCount++;
+            return createPerson(index);
+        }
+
+        @Override
+        public int indexOf(PersonId personId) {
+            int index = personId.getNumber() - FIRST_ID;
+            return index >= 0 && index < count ? index : -1;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package seedu.address.model.symptom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class SymptomIndexTest {
+
+    private final Symptom fever = new Symptom("fever");
+    private final Symptom cough = new Symptom("cough");
+    private final Symptom rash = new Symptom("rash");
+
+    @Test
+    public void addDisease_null_throwsNullPointerException() {
+        SymptomIndex index = new SymptomIndex();
+        Assert.assertThrows(NullPointerException.class, () -> index.addDisease(null, Collections.emptySet()));
+    }
+
+    @Test
+    public void findDiseasesWithAll_manyDiseases_findsEveryMatch() {
+        SymptomIndex index = new SymptomIndex();
+        for (int i = 0; i < 100; i++) {
+            index.addDisease(new Disease("disease " + i), i % 2 == 0 ? symptoms(fever, cough) : symptoms(fever));
+        }
+
+        assertEquals(100, index.findDiseasesWithAll(symptoms(fever)).size());
+        assertEquals(50, index.findDiseasesWithAll(symptoms(fever, cough)).size());
+        assertEquals(100, index.findDiseasesWithAll(Collections.emptySet()).size());
+        assertTrue(index.findDiseasesWithAll(symptoms(fever, rash)).isEmpty());
+    }
+
+    @Test
+    public void rankDiseases_equalScores_orderedByName() {
+        SymptomIndex index = new SymptomIndex();
+        Disease measles = new Disease("measles");
+        Disease flu = new Disease("flu");
+        Disease cold = new Disease("cold");
+        index.addDisease(measles, symptoms(fever, rash));
+        index.addDisease(flu, symptoms(fever, cough));
+        index.addDisease(cold, symptoms(cough));
+
+        List<Disease> ranked = index.rankDiseases(symptoms(fever), 3);
+        assertEquals(Arrays.asList(flu, measles), ranked);
+        assertEquals(Arrays.asList(cold, flu), index.rankDiseases(symptoms(cough), 2));
+        assertTrue(index.rankDiseases(symptoms(fever), 0).isEmpty());
+    }
+
+    @Test
+    public void rankDiseases_differentScores_orderedBySimilarityAndLimited() {
+        SymptomIndex index = new SymptomIndex();
+        Disease measles = new Disease("measles");
+        Disease flu = new Disease("flu");
+        Disease cold = new Disease("cold");
+        Disease allergy = new Disease("allergy");
+        index.addDisease(measles, symptoms(fever, rash, cough));
+        index.addDisease(flu, symptoms(fever, cough));
+        index.addDisease(cold, symptoms(cough));
+        index.addDisease(allergy, symptoms(rash));
+
+        // flu 2/2, measles 2/3, cold 1/2; allergy lists neither symptom
+        assertEquals(Arrays.asList(flu, measles, cold), index.rankDiseases(symptoms(fever, cough), 4));
+        assertEquals(Arrays.asList(flu, measles), index.rankDiseases(symptoms(fever, cough), 2));
+
+        // the unknown symptom counts towards the union: measles 2/4, allergy and cold 1/3 tied by name, flu 1/4
+        Symptom sneeze = new Symptom("sneeze");
+        assertEquals(Arrays.asList(measles, allergy, cold, flu),
+                index.rankDiseases(symptoms(rash, cough, sneeze), 4));
+    }
+
+    private static Set<Symptom> symptoms(Symptom... symptoms) {
+        return new HashSet<>(Arrays.asList(symptoms));
+    }
+}
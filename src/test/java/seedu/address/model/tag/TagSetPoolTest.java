@@ -0,0 +1,56 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+public class TagSetPoolTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> TagSetPool.intern(null));
+    }
+
+    @Test
+    public void intern_equalSets_returnsSameUnmodifiableSet() {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("friends"));
+        tags.add(new Tag("owesMoney"));
+        Set<Tag> pooled = TagSetPool.intern(tags);
+
+        assertEquals(tags, pooled);
+        assertSame(pooled, TagSetPool.intern(new HashSet<>(tags)));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> pooled.remove(new Tag("friends")));
+
+        // later changes to the given set do not affect the pooled set
+        tags.add(new Tag("colleagues"));
+        assertEquals(2, pooled.size());
+    }
+
+    @Test
+    public void intern_emptySet_returnsSameUnmodifiableSet() {
+        Set<Tag> pooled = TagSetPool.intern(new HashSet<>());
+        assertTrue(pooled.isEmpty());
+        assertSame(pooled, TagSetPool.intern(Collections.emptySet()));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> pooled.remove(new Tag("friends")));
+    }
+
+    @Test
+    public void recordsWithEqualTags_shareTagSet() {
+        Person alice = new PersonBuilder().withTags("friends", "owesMoney").build();
+        Person bob = new PersonBuilder().withTags("owesMoney", "friends").build();
+        assertSame(alice.getTags(), bob.getTags());
+        assertSame(alice.getTags(), new ScheduleEventBuilder().withTags("friends", "owesMoney").build().getTags());
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Schedule;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Assert;
+
+public class BinaryFileStorageTest {
+    private static final Path TYPICAL_PERSONS_FILE =
+            Paths.get("src", "test", "data", "XmlSerializableAddressBookTest", "typicalPersonsAddressBook.xml");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveAndLoadAddressBook_typicalPersons_allFieldsReadBack() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(ALICE);
+        try {
+            BinaryFileStorage.saveAddressBookToFile(file, original);
+            assertTrue(BinaryFileStorage.isBinaryFile(file));
+            assertEquals(toStrings(original.getPersonList()),
+                    toStrings(BinaryFileStorage.loadAddressBookFromSaveFile(file).getPersonList()));
+        } finally {
+            ALICE.undelete();
+        }
+    }
+
+    @Test
+    public void saveAndLoadSchedule_typicalEvents_allFieldsReadBack() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("schedule.bin");
+        Schedule original = getTypicalSchedule();
+        BinaryFileStorage.saveScheduleToFile(file, original);
+        assertEquals(toStrings(original.getAllEventList()),
+                toStrings(BinaryFileStorage.loadScheduleFromSaveFile(file).getAllEventList()));
+    }
+
+    @Test
+    public void isBinaryFile_xmlFile_returnsFalse() throws Exception {
+        assertFalse(BinaryFileStorage.isBinaryFile(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void loadSchedule_addressBookFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        BinaryFileStorage.saveAddressBookToFile(file, getTypicalAddressBook());
+        Assert.assertThrows(DataConversionException.class, () -> BinaryFileStorage.loadScheduleFromSaveFile(file));
+    }
+
+    @Test
+    public void loadAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        BinaryFileStorage.saveAddressBookToFile(file, getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        Assert.assertThrows(DataConversionException.class, () -> BinaryFileStorage.loadAddressBookFromSaveFile(file));
+    }
+
+    @Test
+    public void mapAddressBookFile_typicalPersons_allFieldsReadBack() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(ALICE);
+        try {
+            BinaryFileStorage.saveAddressBookToFile(file, original);
+            AddressBook mapped = BinaryFileStorage.mapAddressBookFile(file);
+            assertEquals(toStrings(original.getPersonList()), toStrings(mapped.getPersonList()));
+            for (Person person : original.getPersonList()) {
+                assertEquals(person.toString(), mapped.getPersonById(person.getId()).toString());
+            }
+        } finally {
+            ALICE.undelete();
+        }
+    }
+
+    @Test
+    public void mapAddressBookFile_invalidIndex_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        BinaryFileStorage.saveAddressBookToFile(file, getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(file);
+        // point the index at the start of the file
+        Arrays.fill(bytes, bytes.length - Integer.BYTES, bytes.length, (byte) 0);
+        Files.write(file, bytes);
+        Assert.assertThrows(DataConversionException.class, () -> BinaryFileStorage.mapAddressBookFile(file));
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_imported() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(TYPICAL_PERSONS_FILE);
+        AddressBook expected = XmlFileStorage.loadAddressBookFromSaveFile(TYPICAL_PERSONS_FILE);
+        assertEquals(toStrings(expected.getPersonList()),
+                toStrings(storage.readAddressBook().get().getPersonList()));
+    }
+
+    private List<String> toStrings(List<?> elements) {
+        return elements.stream().map(Object::toString).collect(Collectors.toList());
+    }
+}
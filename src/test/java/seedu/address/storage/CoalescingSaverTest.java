@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class CoalescingSaverTest {
+
+    // runs tasks only when asked to, like a writer thread which is busy until then
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private final List<String> savedData = new ArrayList<>();
+    private final List<IOException> failures = new ArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CoalescingSaver<String>(null, savedData::add,
+                failures::add));
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_savesLatestDataOnce() {
+        CoalescingSaver<String> saver = new CoalescingSaver<>(queuedTasks::add, savedData::add, failures::add);
+        saver.requestSave("first");
+        saver.requestSave("second");
+        saver.requestSave("third");
+        assertTrue(savedData.isEmpty());
+        assertEquals(1, queuedTasks.size());
+
+        runQueuedTasks();
+        assertEquals(Arrays.asList("third"), savedData);
+
+        // requests after the save has run need a new save
+        saver.requestSave("fourth");
+        runQueuedTasks();
+        assertEquals(Arrays.asList("third", "fourth"), savedData);
+    }
+
+    @Test
+    public void requestSave_coalescer_savesCoalescedData() {
+        CoalescingSaver<String> saver = new CoalescingSaver<>(queuedTasks::add, savedData::add, failures::add,
+                (waiting, latest) -> waiting + "+" + latest);
+        saver.requestSave("first");
+        saver.requestSave("second");
+        saver.requestSave("third");
+        runQueuedTasks();
+        assertEquals(Arrays.asList("first+second+third"), savedData);
+
+        saver.requestSave("fourth");
+        runQueuedTasks();
+        assertEquals(Arrays.asList("first+second+third", "fourth"), savedData);
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandled() {
+        IOException exception = new IOException("dummy exception");
+        CoalescingSaver<String> saver = new CoalescingSaver<>(queuedTasks::add, data -> {
+            throw exception;
+        }, failures::add);
+        saver.requestSave("data");
+        runQueuedTasks();
+        assertEquals(Arrays.asList(exception), failures);
+    }
+
+    private void runQueuedTasks() {
+        List<Runnable> tasks = new ArrayList<>(queuedTasks);
+        queuedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class DataChangesTest {
+
+    @Test
+    public void followedBy_knownChanges_combinedInOrderOfFirstChange() {
+        DataChanges<String, String, String> changes = changed("v1", "a", "a=1")
+                .followedBy(changed("v2", "b", "b=1"))
+                .followedBy(changed("v3", "a", "a=2"));
+
+        assertTrue(changes.isKnown());
+        assertEquals("v3", changes.getData());
+        assertEquals(Arrays.asList("a=2", "b=1"), Arrays.asList(changes.getChangedElements().toArray()));
+        assertTrue(changes.getRemovedIds().isEmpty());
+    }
+
+    @Test
+    public void followedBy_removedAfterChange_onlyRemovalKept() {
+        DataChanges<String, String, String> changes = changed("v1", "a", "a=1")
+                .followedBy(changed("v2", "b", "b=1"))
+                .followedBy(DataChanges.ofRemoved("v3", Collections.singletonList("a")));
+
+        assertEquals(Collections.singletonList("b=1"), Arrays.asList(changes.getChangedElements().toArray()));
+        assertEquals(Collections.singleton("a"), changes.getRemovedIds());
+    }
+
+    @Test
+    public void followedBy_unknownChanges_unknown() {
+        assertFalse(changed("v1", "a", "a=1").followedBy(DataChanges.ofUnknown("v2")).isKnown());
+
+        DataChanges<String, String, String> changes = DataChanges.<String, String, String>ofUnknown("v1")
+                .followedBy(changed("v2", "a", "a=1"));
+        assertFalse(changes.isKnown());
+        assertEquals("v2", changes.getData());
+    }
+
+    private static DataChanges<String, String, String> changed(String data, String id, String element) {
+        return DataChanges.ofChanged(data, Collections.singletonMap(id, element));
+    }
+}
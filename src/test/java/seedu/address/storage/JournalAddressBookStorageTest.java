@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.xml");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesAfterSnapshot_changesReadBack() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // edits, additions and soft deletions are appended to the journal, leaving the snapshot as it is
+        Person editedAlice = new Person(ALICE.getId(), ALICE.getName(), new Phone("91234567"), ALICE.getEmail(),
+                ALICE.getAddress(), true, ALICE.getTags());
+        original.updatePerson(ALICE, editedAlice);
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        try {
+            storage.saveAddressBook(original);
+            assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+            assertPersonsEqual(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+        } finally {
+            BENSON.undelete();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook().get();
+        assertPersonsEqual(original, readBack);
+    }
+
+    /**
+     * Asserts that both address books have persons equal in every field, in the same order.
+     */
+    private void assertPersonsEqual(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(toStrings(expected.getPersonList()), toStrings(actual.getPersonList()));
+    }
+
+    private List<String> toStrings(List<Person> persons) {
+        return persons.stream().map(Person::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.testutil.Assert;
+
+public class JournalTest {
+
+    // elements are "id=value" strings, and are stored as they are
+    private static final List<String> SNAPSHOT = Arrays.asList("a=1", "b=1");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path snapshotFile;
+    private Journal<String> journal;
+
+    @Before
+    public void setUp() throws IOException {
+        snapshotFile = testFolder.getRoot().toPath().resolve("snapshot");
+        Files.write(snapshotFile, SNAPSHOT);
+        journal = createJournal(Long.MAX_VALUE);
+        journal.reset(SNAPSHOT);
+    }
+
+    @Test
+    public void append_changes_replayedOverSnapshot() throws Exception {
+        assertTrue(journal.append(Arrays.asList("a=2", "b=1", "c=1")));
+        assertTrue(journal.append(Arrays.asList("a=2", "c=1")));
+
+        assertEquals(Arrays.asList("a=2", "c=1"), createJournal(Long.MAX_VALUE).replay(SNAPSHOT));
+    }
+
+    @Test
+    public void appendChanges_changes_replayedOverSnapshot() throws Exception {
+        assertTrue(journal.append(Arrays.asList("a=2", "c=1"), Collections.emptyList()));
+        assertTrue(journal.append(Collections.emptyList(), Arrays.asList("b")));
+        // the list as last saved follows the changes, so the whole list can still be compared with it
+        assertTrue(journal.append(Arrays.asList("a=2", "c=2")));
+
+        assertEquals(Arrays.asList("a=2", "c=2"), createJournal(Long.MAX_VALUE).replay(SNAPSHOT));
+    }
+
+    @Test
+    public void appendChanges_notReplayedOrReset_returnsFalse() throws Exception {
+        assertFalse(createJournal(Long.MAX_VALUE).append(Arrays.asList("a=2"), Collections.emptyList()));
+    }
+
+    @Test
+    public void append_noChanges_journalUnchanged() throws Exception {
+        long journalLength = Files.size(Journal.getJournalFile(snapshotFile));
+        assertTrue(journal.append(SNAPSHOT));
+        assertEquals(journalLength, Files.size(Journal.getJournalFile(snapshotFile)));
+    }
+
+    @Test
+    public void append_reorderedElements_returnsFalse() throws Exception {
+        assertFalse(journal.append(Arrays.asList("b=1", "a=1")));
+        // an element added before an existing one cannot be recorded either
+        assertFalse(journal.append(Arrays.asList("a=1", "c=1", "b=1")));
+    }
+
+    @Test
+    public void append_notReplayedOrReset_returnsFalse() throws Exception {
+        assertFalse(createJournal(Long.MAX_VALUE).append(SNAPSHOT));
+    }
+
+    @Test
+    public void append_thresholdReached_returnsFalse() throws Exception {
+        Journal<String> smallJournal = createJournal(1);
+        smallJournal.reset(SNAPSHOT);
+        assertFalse(smallJournal.append(Arrays.asList("a=2", "b=1")));
+    }
+
+    @Test
+    public void rewrite_elements_replayedInsteadOfSnapshot() throws Exception {
+        journal.append(Arrays.asList("a=2", "b=1"));
+        journal.rewrite(Arrays.asList("c=1", "a=3"));
+        // the list as last saved is not kept, so only changes which are known can be appended
+        assertFalse(journal.append(Arrays.asList("c=1", "a=4")));
+        assertTrue(journal.append(Arrays.asList("a=4"), Collections.emptyList()));
+
+        assertEquals(Arrays.asList("c=1", "a=4"), createJournal(Long.MAX_VALUE).replay(SNAPSHOT));
+    }
+
+    @Test
+    public void replay_tornRecord_recordDiscarded() throws Exception {
+        journal.append(Arrays.asList("a=2", "b=1"));
+        Path journalFile = Journal.getJournalFile(snapshotFile);
+        long journalLength = Files.size(journalFile);
+        // the start of a record which was being appended
+        Files.write(journalFile, new byte[] {'P', 0, 0}, StandardOpenOption.APPEND);
+
+        assertEquals(Arrays.asList("a=2", "b=1"), createJournal(Long.MAX_VALUE).replay(SNAPSHOT));
+        assertEquals(journalLength, Files.size(journalFile));
+    }
+
+    @Test
+    public void replay_snapshotReplaced_journalIgnored() throws Exception {
+        journal.append(Arrays.asList("a=2", "b=1"));
+        // as if a crash happened after a new snapshot was written, but before its journal was started
+        List<String> newSnapshot = Arrays.asList("a=3");
+        Files.write(snapshotFile, newSnapshot);
+
+        Journal<String> replayedJournal = createJournal(Long.MAX_VALUE);
+        assertEquals(newSnapshot, replayedJournal.replay(newSnapshot));
+        assertFalse(replayedJournal.append(newSnapshot));
+    }
+
+    @Test
+    public void replay_invalidRecord_throwsDataConversionException() throws Exception {
+        journal.append(Arrays.asList("a=2", "b=invalid"));
+        Assert.assertThrows(DataConversionException.class, () -> createJournal(Long.MAX_VALUE).replay(SNAPSHOT));
+    }
+
+    private Journal<String> createJournal(long compactionThreshold) {
+        return new Journal<>(snapshotFile, element -> element.split("=")[0], element -> null, element -> element,
+                JournalTest::decode, compactionThreshold);
+    }
+
+    private static String decode(String record) throws DataConversionException {
+        if (record.endsWith("invalid")) {
+            throw new DataConversionException(new IllegalArgumentException(record));
+        }
+        return record;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class MappedAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveAddressBookChanges_fileMapped_snapshotLeftAndChangesReadBack() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+        AddressBook mapped = (AddressBook) storage.readAddressBook().get();
+
+        // each save appends to the journal, as the mapped snapshot may not be replaceable
+        Person alice = mapped.getPersonById(ALICE.getId());
+        Person editedAlice = new Person(alice.getId(), alice.getName(), new Phone("91234567"), alice.getEmail(),
+                alice.getAddress(), true, alice.getTags());
+        mapped.updatePerson(alice, editedAlice);
+        storage.saveAddressBookChanges(mapped, Collections.singletonList(editedAlice));
+        Person benson = mapped.getPersonById(BENSON.getId());
+        mapped.removePerson(benson);
+        mapped.addPerson(HOON);
+        storage.saveAddressBookChanges(mapped, Arrays.asList(benson, HOON));
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertPersonsEqual(mapped, new MappedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_fileMapped_snapshotLeftAndAddressBookReadBack() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+        storage.readAddressBook();
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(HOON);
+        storage.saveAddressBook(replacement);
+        replacement.addPerson(IDA);
+        storage.saveAddressBookChanges(replacement, Collections.singletonList(IDA));
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertPersonsEqual(replacement, new MappedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, Collections.singletonList(HOON));
+
+        ReadOnlyAddressBook readBack = new MappedAddressBookStorage(filePath, 1).readAddressBook().get();
+        assertPersonsEqual(original, readBack);
+        assertPersonsEqual(original, BinaryFileStorage.loadAddressBookFromSaveFile(filePath));
+    }
+
+    /**
+     * Asserts that both address books have persons equal in every field, in the same order.
+     */
+    private void assertPersonsEqual(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(toStrings(expected.getPersonList()), toStrings(actual.getPersonList()));
+    }
+
+    private List<String> toStrings(List<Person> persons) {
+        return persons.stream().map(Person::toString).collect(Collectors.toList());
+    }
+}
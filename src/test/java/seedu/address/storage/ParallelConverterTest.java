@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final List<Integer> RECORDS = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertAll_validRecords_convertedInOrder() throws Exception {
+        List<String> converted = ParallelConverter.convertAll(RECORDS, 0, String::valueOf);
+        assertEquals(RECORDS.stream().map(String::valueOf).collect(Collectors.toList()), converted);
+    }
+
+    @Test
+    public void convertAll_invalidRecords_firstInvalidRecordReported() throws Exception {
+        // records from 500 on are invalid, and the later ones fail differently from the first
+        ParallelConverter.Conversion<Integer, Integer> conversion = record -> {
+            if (record >= 60_000) {
+                throw new ParseException("unparsable " + record, 0);
+            } else if (record >= 500) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record;
+        };
+        for (int i = 0; i < 10; i++) {
+            try {
+                ParallelConverter.convertAll(RECORDS, 1_000, conversion);
+                fail("The invalid records were not reported");
+            } catch (IllegalValueException e) {
+                assertEquals("Invalid record at index 1500: invalid 500", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static seedu.address.testutil.BenchmarkUtil.measureNanosPerOp;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import seedu.address.commons.util.Pair;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.testutil.BenchmarkUtil;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+/**
+ * Measures saving and loading an address book and a schedule in the xml format of {@link XmlFileStorage} and the
+ * binary format of {@link BinaryFileStorage}, and mapping an address book file, and compares the sizes of the files.
+ * Run with {@code gradlew benchmark -Pbench=seedu.address.storage.StorageFormatBenchmark}.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int[] RECORD_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final String[] TAGS = {"diabetic", "allergic", "followUp", "elderly"};
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    /**
+     * Saves or loads a file.
+     */
+    @FunctionalInterface
+    private interface FileOperation {
+        void run(Path file) throws Exception;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("StorageFormatBenchmark");
+        for (int count : RECORD_COUNTS) {
+            AddressBook addressBook = createAddressBook(count);
+            Schedule schedule = createSchedule(count);
+            // small sizes run fast enough to need more rounds to warm up
+            int warmupRounds = Math.max(1, 100_000 / count);
+
+            Path xmlFile = Files.createFile(folder.resolve("addressbook" + count + ".xml"));
+            Path binaryFile = folder.resolve("addressbook" + count + ".bin");
+            measure("address book save (xml)", count, warmupRounds, xmlFile,
+                    file -> XmlFileStorage.saveAddressBookToFile(file, addressBook));
+            measure("address book save (binary)", count, warmupRounds, binaryFile,
+                    file -> BinaryFileStorage.saveAddressBookToFile(file, addressBook));
+            measure("address book load (xml)", count, warmupRounds, xmlFile,
+                    file -> XmlFileStorage.loadAddressBookFromSaveFile(file));
+            measure("address book load (binary)", count, warmupRounds, binaryFile,
+                    file -> BinaryFileStorage.loadAddressBookFromSaveFile(file));
+            measure("address book open (mapped)", count, warmupRounds, binaryFile,
+                    file -> BinaryFileStorage.mapAddressBookFile(file));
+            reportSize("address book file size (xml)", count, xmlFile);
+            reportSize("address book file size (binary)", count, binaryFile);
+
+            xmlFile = Files.createFile(folder.resolve("schedule" + count + ".xml"));
+            binaryFile = folder.resolve("schedule" + count + ".bin");
+            measure("schedule save (xml)", count, warmupRounds, xmlFile,
+                    file -> XmlFileStorage.saveScheduleToFile(file, schedule));
+            measure("schedule save (binary)", count, warmupRounds, binaryFile,
+                    file -> BinaryFileStorage.saveScheduleToFile(file, schedule));
+            measure("schedule load (xml)", count, warmupRounds, xmlFile,
+                    file -> XmlFileStorage.loadScheduleFromSaveFile(file));
+            measure("schedule load (binary)", count, warmupRounds, binaryFile,
+                    file -> BinaryFileStorage.loadScheduleFromSaveFile(file));
+            reportSize("schedule file size (xml)", count, xmlFile);
+            reportSize("schedule file size (binary)", count, binaryFile);
+        }
+        System.out.println("checksum: " + BenchmarkUtil.getBlackhole());
+    }
+
+    private static void measure(String benchmark, int count, int warmupRounds, Path file, FileOperation operation) {
+        report(benchmark, count, measureNanosPerOp(warmupRounds, 3, 1, () -> {
+            try {
+                operation.run(file);
+            } catch (Exception e) {
+                throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            }
+            return 1;
+        }));
+    }
+
+    private static void reportSize(String benchmark, int count, Path file) {
+        try {
+            System.out.println(String.format("%-40s %,12d %,16d bytes", benchmark, count, Files.size(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static AddressBook createAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < count; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Patient " + i)
+                    .withPhone(String.valueOf(90_000_000 + i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withAddress(i + " Clementi Ave 3, #0" + (i % 10) + "-" + (i % 1000))
+                    .withTags(TAGS[i % TAGS.length])
+                    .build());
+        }
+        return addressBook;
+    }
+
+    private static Schedule createSchedule(int count) {
+        long firstStart = new Calendar.Builder().setDate(2018, Calendar.JANUARY, 1).build().getTimeInMillis();
+        List<ScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // one half-hour appointment after another
+            long start = firstStart + i * 30 * MINUTE_MILLIS;
+            events.add(new ScheduleEventBuilder()
+                    .withDurations(duration(start, start + 30 * MINUTE_MILLIS))
+                    .withPersonId("p" + i)
+                    .withDetails("Follow-up visit " + i)
+                    .withTags(TAGS[i % TAGS.length])
+                    .build());
+        }
+        // adding events one at a time checks each against all the others
+        Schedule schedule = new Schedule();
+        schedule.setScheduleEvents(events);
+        return schedule;
+    }
+
+    private static Pair<Calendar> duration(long startMillis, long endMillis) {
+        Calendar start = Calendar.getInstance();
+        start.setTimeInMillis(startMillis);
+        Calendar end = Calendar.getInstance();
+        end.setTimeInMillis(endMillis);
+        return new Pair<>(start, end);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -7,6 +8,7 @@ import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,12 +18,16 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ModelChangedEvent.Change;
+import seedu.address.commons.events.model.ScheduleChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.Schedule;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.testutil.ScheduleEventBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -98,9 +104,33 @@ public class StorageManagerTest {
                                              new XmlScheduleStorage(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleScheduleChangedEvent_journalStorage_onlyChangedEventsAppended() throws Exception {
+        Path filePath = getTempFilePath("journalled");
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JournalScheduleStorage(filePath), new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Schedule schedule = getTypicalSchedule();
+        storage.handleScheduleChangedEvent(new ScheduleChangedEvent(new Schedule(schedule)));
+        storage.flush();
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // the changes of both events are appended to the journal, leaving the snapshot as it is
+        ScheduleEvent added = new ScheduleEventBuilder().build();
+        schedule.addScheduleEvent(added);
+        storage.handleScheduleChangedEvent(new ScheduleChangedEvent(new Schedule(schedule), Change.ADDED, added));
+        ScheduleEvent removed = schedule.getAllEventList().get(0);
+        schedule.removeScheduleEvent(removed);
+        storage.handleScheduleChangedEvent(new ScheduleChangedEvent(new Schedule(schedule), Change.REMOVED,
+                removed));
+        storage.flush();
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(schedule, new Schedule(new JournalScheduleStorage(filePath).readSchedule().get()));
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -1,10 +1,17 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,8 +19,11 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class XmlAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
@@ -69,6 +79,39 @@ public class XmlAddressBookStorageTest {
     }
 
 
+    @Test
+    public void loadAddressBook_manyBatches_allPersonsInOrder() throws Exception {
+        Path filePath = Files.createFile(testFolder.getRoot().toPath().resolve("ManyPersons.xml"));
+        AddressBook original = createAddressBook(20_000);
+        XmlFileStorage.saveAddressBookToFile(filePath, original);
+        assertEquals(original, XmlFileStorage.loadAddressBookFromSaveFile(filePath));
+    }
+
+    @Test
+    public void loadAddressBook_invalidPersonInLaterBatch_indexReported() throws Exception {
+        Path filePath = Files.createFile(testFolder.getRoot().toPath().resolve("ManyPersons.xml"));
+        XmlFileStorage.saveAddressBookToFile(filePath, createAddressBook(20_000));
+        String xml = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, xml.replace("<phone>90017000</phone>", "<phone>invalid</phone>")
+                .replace("<phone>90019000</phone>", "<phone>invalid</phone>").getBytes(StandardCharsets.UTF_8));
+        try {
+            XmlFileStorage.loadAddressBookFromSaveFile(filePath);
+            fail("The invalid person was not reported");
+        } catch (IllegalValueException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid record at index 17000: "));
+        }
+    }
+
+    private AddressBook createAddressBook(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(90_000_000 + i)).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
     /*@Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
@@ -0,0 +1,104 @@
+package seedu.address.testutil;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * A utility class for the hand-rolled micro-benchmarks in the test source set.
+ * Benchmarks are plain classes with a {@code main} method, run via {@code gradlew benchmark -Pbench=CLASS_NAME}.
+ */
+public class BenchmarkUtil {
+
+    private static final int DEFAULT_WARMUP_ROUNDS = 5;
+    private static final int DEFAULT_MEASURED_ROUNDS = 10;
+    private static final int GC_ROUNDS = 5;
+
+    // accumulates the results of measured operations so that the JIT cannot eliminate them as dead code
+    private static long blackhole;
+
+    /**
+     * Runs {@code operation} {@code opsPerRound} times per round and returns the median time of one operation
+     * in nanoseconds, after discarding a number of warm-up rounds.
+     *
+     * @param operation the operation to measure. Its result is consumed to defeat dead code elimination.
+     */
+    public static double measureNanosPerOp(int opsPerRound, IntSupplier operation) {
+        return measureNanosPerOp(DEFAULT_WARMUP_ROUNDS, DEFAULT_MEASURED_ROUNDS, opsPerRound, operation);
+    }
+
+    /**
+     * @see #measureNanosPerOp(int, IntSupplier)
+     */
+    public static double measureNanosPerOp(int warmupRounds, int measuredRounds, int opsPerRound,
+                                           IntSupplier operation) {
+        for (int i = 0; i < warmupRounds; i++) {
+            runRound(opsPerRound, operation);
+        }
+        double[] samples = new double[measuredRounds];
+        for (int i = 0; i < measuredRounds; i++) {
+            samples[i] = (double) runRound(opsPerRound, operation) / opsPerRound;
+        }
+        Arrays.sort(samples);
+        return samples[measuredRounds / 2];
+    }
+
+    /**
+     * Runs one round of {@code ops} operations and returns the elapsed time in nanoseconds.
+     */
+    private static long runRound(int ops, IntSupplier operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            blackhole += operation.getAsInt();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the heap retained per object by {@code count} objects created by {@code factory}, as the difference
+     * in used heap after garbage collection before and after creating them. Values the objects share with others
+     * must be allocated before this is called and kept alive, so that only the objects themselves are measured.
+     */
+    public static double measureRetainedBytesPerObject(int count, IntFunction<Object> factory) {
+        long before = usedHeapAfterGc();
+        Object[] objects = new Object[count];
+        for (int i = 0; i < count; i++) {
+            objects[i] = factory.apply(i);
+        }
+        long after = usedHeapAfterGc();
+        if (objects[count - 1] == null) {
+            throw new AssertionError("Objects were not kept alive");
+        }
+        return (double) (after - before) / count;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Prints one result row in a fixed-width format shared by all benchmarks.
+     */
+    public static void report(String benchmark, long size, double nanosPerOp) {
+        report(benchmark, size, nanosPerOp, "ns/op");
+    }
+
+    /**
+     * Prints one result row, of a measurement in {@code unit}, in the format of {@link #report(String, long, double)}.
+     */
+    public static void report(String benchmark, long size, double value, String unit) {
+        System.out.println(String.format("%-40s %,12d %,16.1f %s", benchmark, size, value, unit));
+    }
+
+    /**
+     * Returns the value accumulated from all measured operations.
+     * Printing it at the end of a benchmark keeps the measured work observable.
+     */
+    public static long getBlackhole() {
+        return blackhole;
+    }
+}
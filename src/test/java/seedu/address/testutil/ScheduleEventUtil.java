@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.ScheduleEventCliSyntax.PREFIX_TAGS;
 
 import java.util.Set;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.model.event.ScheduleEvent;
@@ -32,7 +33,7 @@ public class ScheduleEventUtil {
      */
     public static String getScheduleEventDetails(ScheduleEvent scheduleEvent) {
         StringBuilder sb = new StringBuilder();
-        sb.append(PREFIX_PERSON + scheduleEvent.getPersonId().value + " ");
+        sb.append(PREFIX_PERSON + scheduleEvent.getPersonId().toString() + " ");
 
         //datetime goes here
         /*
@@ -50,7 +51,7 @@ public class ScheduleEventUtil {
      */
     public static String getEditScheduleEventDescriptorDetails(EditCommand.EditScheduleEventDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
-        descriptor.getPerson().ifPresent(personId -> sb.append(PREFIX_PERSON).append(personId.value).append(" "));
+        descriptor.getPerson().ifPresent(personId -> sb.append(PREFIX_PERSON).append(personId).append(" "));
 
         //datetime goes here
         descriptor.getDetails().ifPresent(details -> sb.append(PREFIX_DETAILS).append(details).append(" "));
@@ -71,10 +72,10 @@ public class ScheduleEventUtil {
      * match, but is not a requirement.
      */
     public static boolean matchEventProperties(ScheduleEvent event, ScheduleEvent otherEvent) {
-        return ScheduleEvent.STORAGE_SDF.format(event.getDate().getKey().getTime())
-                .compareTo(ScheduleEvent.STORAGE_SDF.format(otherEvent.getDate().getKey().getTime())) == 0
-                && ScheduleEvent.STORAGE_SDF.format(event.getDate().getValue().getTime())
-                .compareTo(ScheduleEvent.STORAGE_SDF.format(otherEvent.getDate().getValue().getTime())) == 0
+        return DateTimeUtil.formatDateTime(event.getStartMillis())
+                .equals(DateTimeUtil.formatDateTime(otherEvent.getStartMillis()))
+                && DateTimeUtil.formatDateTime(event.getEndMillis())
+                .equals(DateTimeUtil.formatDateTime(otherEvent.getEndMillis()))
                 && event.getDetails().equals(otherEvent.getDetails())
                 && event.getPersonId().equals(otherEvent.getPersonId())
                 && event.getTags().equals(otherEvent.getTags());
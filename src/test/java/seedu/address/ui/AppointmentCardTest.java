@@ -35,6 +35,19 @@ public class AppointmentCardTest extends GuiUnitTest {
         assertCardDisplay(appointmentCard, eventWithTags, 2);
     }
 
+    @Test
+    public void display_reusedCard_showsLatestEvent() {
+        ScheduleEvent eventWithTags = new ScheduleEventBuilder().withTags("checkup", "urgent").build();
+        AppointmentCard appointmentCard = new AppointmentCard(eventWithTags, 1);
+        uiPartRule.setUiPart(appointmentCard);
+
+        // the tags of the event shown before are not kept
+        ScheduleEvent otherEvent = new ScheduleEventBuilder().withDetails("other details").withTags("other").build();
+        guiRobot.interact(() -> appointmentCard.setScheduleEvent(otherEvent, 2));
+        assertCardDisplay(appointmentCard, otherEvent, 2);
+        assertTrue(appointmentCard.equals(new AppointmentCard(otherEvent, 2)));
+    }
+
     @Test
     public void equals() {
         ScheduleEvent event = new ScheduleEventBuilder().build();
@@ -0,0 +1,52 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FxThreadListTest extends GuiUnitTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "d", "a");
+
+    @Test
+    public void follow_changesOnFxThread_copiedAtOnce() {
+        ObservableList<String> copy = FxThreadList.follow(source);
+        guiRobot.interact(() -> {
+            source.add("c");
+            assertEquals(source, copy);
+            source.remove("b");
+            assertEquals(source, copy);
+        });
+    }
+
+    @Test
+    public void follow_changesOnOtherThread_copiedInOrderOnFxThread() {
+        ObservableList<String> copy = FxThreadList.follow(source);
+
+        // additions, removals, replacements and permutations, each made on this thread
+        source.addAll(1, Arrays.asList("e", "f"));
+        source.remove("d");
+        source.set(0, "g");
+        FXCollections.sort(source);
+        source.removeAll("a", "g");
+        guiRobot.interact(() -> { });
+
+        assertEquals(Arrays.asList("e", "f"), source);
+        assertEquals(source, copy);
+    }
+
+    @Test
+    public void follow_modifyCopy_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        FxThreadList.follow(source).add("e");
+    }
+}
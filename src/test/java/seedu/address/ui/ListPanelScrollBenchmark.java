@@ -0,0 +1,234 @@
+package seedu.address.ui;
+
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.testfx.api.FxToolkit;
+
+import guitests.guihandles.PersonListPanelHandle;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+/**
+ * Reports the frames per second of {@link PersonListPanel} and {@link AppointmentPanel} while they scroll through
+ * large lists, with their cells keeping one card each, against cells building a new card, and so parsing its FXML,
+ * on every update as they did before.
+ * Every frame scrolls the list down by about a page, so that each visible cell is updated for another item, and
+ * frames are not held back to a screen refresh rate. Runs headless unless {@code -Dtestfx.headless=false} is given.
+ * Run with {@code gradlew benchmark -Pbench=seedu.address.ui.ListPanelScrollBenchmark}.
+ */
+public class ListPanelScrollBenchmark {
+
+    private static final int[] LIST_SIZES = {1_000, 10_000};
+    private static final int ROWS_PER_FRAME = 8;
+    private static final int WARMUP_PASSES = 2;
+    private static final int MEASURED_PASSES = 3;
+    private static final long PASS_TIMEOUT_MINUTES = 10;
+
+    private static final double SCENE_WIDTH = 600;
+    private static final double SCENE_HEIGHT = 900;
+    private static final String[] CSS_FILES = {"view/DarkTheme.css", "view/Extensions.css"};
+    private static final String APPOINTMENT_VIEW_ID = "#appointmentView";
+    private static final String[] TAG_NAMES = {"diabetic", "allergic", "elderly"};
+
+    public static void main(String[] args) throws Exception {
+        setDefaultProperty("testfx.robot", "glass");
+        setDefaultProperty("testfx.headless", "true");
+        setDefaultProperty("prism.order", "sw");
+        setDefaultProperty("prism.text", "t2k");
+        setDefaultProperty("javafx.animation.fullspeed", "true");
+        FxToolkit.registerPrimaryStage();
+
+        for (int size : LIST_SIZES) {
+            ObservableList<Person> persons = FXCollections.observableArrayList(createPersons(size));
+            ObservableList<ScheduleEvent> events = FXCollections.observableArrayList(createEvents(size));
+
+            report("PersonListPanel, recycled cards", size,
+                    measureFramesPerSecond(() -> new PersonListPanel(persons),
+                            PersonListPanelHandle.PERSON_LIST_VIEW_ID, null), "frames/s");
+            report("PersonListPanel, new card per update", size,
+                    measureFramesPerSecond(() -> new PersonListPanel(persons),
+                            PersonListPanelHandle.PERSON_LIST_VIEW_ID,
+                            (Person person, Integer index) -> new PersonCard(person, index)), "frames/s");
+            report("AppointmentPanel, recycled cards", size,
+                    measureFramesPerSecond(() -> new AppointmentPanel(events), APPOINTMENT_VIEW_ID, null),
+                    "frames/s");
+            report("AppointmentPanel, new card per update", size,
+                    measureFramesPerSecond(() -> new AppointmentPanel(events), APPOINTMENT_VIEW_ID,
+                            (ScheduleEvent event, Integer index) -> new AppointmentCard(event, index)), "frames/s");
+        }
+
+        FxToolkit.cleanupStages();
+        Platform.exit();
+    }
+
+    /**
+     * Sets the system property {@code key} to {@code value}, unless it was given on the command line.
+     */
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Shows the panel from {@code panelSupplier} and returns the median frames per second of scrolling its list view
+     * with ID {@code listViewId} from top to bottom.
+     *
+     * @param cardFactory if not null, the list view's cells build a new card from it on every update instead.
+     */
+    private static <T> double measureFramesPerSecond(Supplier<? extends UiPart<Region>> panelSupplier,
+            String listViewId, BiFunction<T, Integer, ? extends UiPart<Region>> cardFactory) throws Exception {
+        Scene scene = FxToolkit.setupScene(() -> {
+            Scene panelScene = new Scene(panelSupplier.get().getRoot(), SCENE_WIDTH, SCENE_HEIGHT);
+            panelScene.getStylesheets().setAll(CSS_FILES);
+            return panelScene;
+        });
+        @SuppressWarnings("unchecked")
+        ListView<T> listView = (ListView<T>) scene.lookup(listViewId);
+        if (cardFactory != null) {
+            FxToolkit.setupFixture(() -> listView.setCellFactory(unused -> new NewCardCell<>(cardFactory)));
+        }
+        FxToolkit.showStage();
+
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            scrollThrough(listView);
+        }
+        double[] samples = new double[MEASURED_PASSES];
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            samples[i] = scrollThrough(listView);
+        }
+        EventsCenter.clearSubscribers();
+
+        Arrays.sort(samples);
+        return samples[MEASURED_PASSES / 2];
+    }
+
+    /**
+     * Scrolls {@code listView} from top to bottom, by {@code ROWS_PER_FRAME} rows every frame, and returns the
+     * frames per second.
+     */
+    private static double scrollThrough(ListView<?> listView) throws InterruptedException {
+        ScrollingTimer timer = new ScrollingTimer(listView);
+        Platform.runLater(timer::start);
+        if (!timer.done.await(PASS_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            throw new AssertionError("Scrolling did not finish in " + PASS_TIMEOUT_MINUTES + " minutes");
+        }
+        return timer.getFramesPerSecond();
+    }
+
+    /**
+     * Returns {@code count} persons with distinct details, each with one tag.
+     */
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withAddress(i + " Clementi Ave " + (i % 7))
+                    .withTags(TAG_NAMES[i % TAG_NAMES.length])
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} events for distinct persons, each with one tag.
+     */
+    private static List<ScheduleEvent> createEvents(int count) {
+        List<ScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new ScheduleEventBuilder()
+                    .withPersonId("p" + i)
+                    .withDetails("Follow up " + i)
+                    .withTags(TAG_NAMES[i % TAG_NAMES.length])
+                    .build());
+        }
+        return events;
+    }
+
+    /**
+     * Scrolls a list view down by {@code ROWS_PER_FRAME} rows on every frame until it reaches the end of the list,
+     * counting the frames.
+     */
+    private static class ScrollingTimer extends AnimationTimer {
+        private final ListView<?> listView;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private int index;
+        private int frameCount;
+        private long firstFrameNanos;
+        private long lastFrameNanos;
+
+        ScrollingTimer(ListView<?> listView) {
+            this.listView = listView;
+        }
+
+        @Override
+        public void handle(long now) {
+            if (frameCount == 0) {
+                firstFrameNanos = now;
+            }
+            if (index >= listView.getItems().size()) {
+                lastFrameNanos = now;
+                stop();
+                done.countDown();
+                return;
+            }
+            listView.scrollTo(index);
+            index += ROWS_PER_FRAME;
+            frameCount++;
+        }
+
+        double getFramesPerSecond() {
+            return frameCount * (double) TimeUnit.SECONDS.toNanos(1) / (lastFrameNanos - firstFrameNanos);
+        }
+    }
+
+    /**
+     * A cell which builds a new card for every update, as the panels' cells did before they kept their cards.
+     */
+    private static class NewCardCell<T> extends ListCell<T> {
+        private final BiFunction<T, Integer, ? extends UiPart<Region>> cardFactory;
+
+        NewCardCell(BiFunction<T, Integer, ? extends UiPart<Region>> cardFactory) {
+            this.cardFactory = cardFactory;
+        }
+
+        @Override
+        protected boolean isItemChanged(T oldItem, T newItem) {
+            return true;
+        }
+
+        @Override
+        protected void updateItem(T item, boolean empty) {
+            super.updateItem(item, empty);
+
+            if (empty || item == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(cardFactory.apply(item, getIndex() + 1).getRoot());
+            }
+        }
+    }
+}
@@ -28,6 +28,19 @@ public class PersonCardTest extends GuiUnitTest {
         assertCardDisplay(personCard, personWithTags, 2);
     }
 
+    @Test
+    public void display_reusedCard_showsLatestPerson() {
+        Person personWithTags = new PersonBuilder().withTags("friends", "colleagues").build();
+        PersonCard personCard = new PersonCard(personWithTags, 1);
+        uiPartRule.setUiPart(personCard);
+
+        // the tags of the person shown before are not kept
+        Person otherPerson = new PersonBuilder().withName("otherName").withTags("other").build();
+        guiRobot.interact(() -> personCard.setPerson(otherPerson, 2));
+        assertCardDisplay(personCard, otherPerson, 2);
+        assertTrue(personCard.equals(new PersonCard(otherPerson, 2)));
+    }
+
     @Test
     public void equals() {
         Person person = new PersonBuilder().build();
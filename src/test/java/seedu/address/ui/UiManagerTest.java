@@ -0,0 +1,65 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.ui.SwitchToAppointmentEvent;
+import seedu.address.commons.events.ui.SwitchToPatientEvent;
+import seedu.address.model.UserPrefs;
+
+public class UiManagerTest extends GuiUnitTest {
+
+    @Test
+    public void handleSwitchEvents_postedOffFxThread_switchedOnFxThread() throws Exception {
+        SwitchRecordingUiManager uiManager = new SwitchRecordingUiManager();
+
+        postOnOtherThread(new SwitchToAppointmentEvent());
+        postOnOtherThread(new SwitchToPatientEvent());
+        guiRobot.interact(() -> { });
+
+        assertEquals(2, uiManager.switchedOnFxThread.size());
+        assertTrue(uiManager.switchedOnFxThread.get(0));
+        assertTrue(uiManager.switchedOnFxThread.get(1));
+    }
+
+    /**
+     * Posts {@code event} on a new thread, as a command executing in the background does, and waits until the
+     * post returns.
+     */
+    private static void postOnOtherThread(BaseEvent event) throws InterruptedException {
+        Thread poster = new Thread(() -> EventsCenter.getInstance().post(event));
+        poster.start();
+        poster.join();
+    }
+
+    /**
+     * Records whether each switch of window happens on the JavaFX application thread, instead of switching.
+     */
+    private static class SwitchRecordingUiManager extends UiManager {
+        // only changed on the JavaFX application thread, and read after waiting for it
+        private final List<Boolean> switchedOnFxThread = new ArrayList<>();
+
+        SwitchRecordingUiManager() {
+            super(null, new Config(), new UserPrefs());
+        }
+
+        @Override
+        public void switchToAppointment() {
+            switchedOnFxThread.add(Platform.isFxApplicationThread());
+        }
+
+        @Override
+        public void switchToPatient() {
+            switchedOnFxThread.add(Platform.isFxApplicationThread());
+        }
+    }
+}
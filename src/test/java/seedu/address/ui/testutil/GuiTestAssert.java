@@ -45,7 +45,7 @@ public class GuiTestAssert {
      */
     public static void assertCardDisplaysEvent(ScheduleEvent expectedEvent, AppointmentCardHandle actualCard) {
         assertEquals(expectedEvent.getDateToString(), actualCard.getDatetime());
-        assertEquals(expectedEvent.getPersonId().value, actualCard.getPersonid());
+        assertEquals(expectedEvent.getPersonId().toString(), actualCard.getPersonid());
         assertEquals(expectedEvent.getDetails(), actualCard.getDetails());
         assertEquals(expectedEvent.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()),
                 actualCard.getTags());